@@ -0,0 +1,27 @@
+package Maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Vazão de Maze.generate(): um labirinto novo por operação, com sementes diferentes
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GenerateBenchmark {
+
+    @Param({"100", "400"})
+    public int size;
+
+    private long seed;
+
+    @Benchmark
+    public int[][] generate() {
+        Maze maze = new Maze(size, size, ++seed);
+        maze.generate();
+        return maze.getMaze();
+    }
+}
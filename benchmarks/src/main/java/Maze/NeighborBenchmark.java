@@ -0,0 +1,54 @@
+package Maze;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Expansão de vizinhos do MazeGrid: cada operação expande BATCH células abertas sorteadas
+// no setup
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NeighborBenchmark {
+
+    private static final int BATCH = 1024;
+
+    @Param({"100", "400"})
+    public int size;
+
+    private MazeGrid grid;
+    private int[] cells;
+    private final int[] buffer = new int[4];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Maze maze = new Maze(size, size, 1);
+        maze.generate();
+        grid = new MazeGrid(maze.getMaze());
+        int[] open = new int[grid.size()];
+        int openCount = 0;
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (grid.isOpen(cell)) open[openCount++] = cell;
+        }
+        cells = new int[BATCH];
+        Random rand = new Random(1);
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = open[rand.nextInt(openCount)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long neighbors() {
+        long total = 0;
+        for (int cell : cells) {
+            int count = grid.neighbors(cell, buffer);
+            for (int i = 0; i < count; i++) total += buffer[i];
+        }
+        return total;
+    }
+}
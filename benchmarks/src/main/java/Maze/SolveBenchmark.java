@@ -0,0 +1,64 @@
+package Maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Latência de solve de cada solver do SolverRegistry por tamanho e threads. Os labirintos são
+// gerados com sementes fixas no setup e cada chamada resolve o próximo, para o solver não
+// repetir sempre a mesma consulta.
+//
+// Uso: java -jar benchmarks/target/benchmarks.jar SolveBenchmark -p solver=jps,hda -p size=400
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SolveBenchmark {
+
+    private static final int MAZES = 8;
+
+    // Os mesmos nomes do SolverRegistry, na mesma ordem; setup() falha se as listas divergirem.
+    // "contracted" guarda o grafo só do último labirinto, então aqui cada chamada inclui a contração
+    @Param({"sequential", "primitive", "parallel", "indexed", "hda", "multiqueue", "bidirectional",
+            "parallel-bfs", "bit-bfs", "jps", "hierarchical", "portfolio", "anytime", "lpa",
+            "contracted", "distance-field"})
+    public String solver;
+
+    @Param({"100", "400"})
+    public int size;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private Maze[] mazes;
+    private MazeSolver instance;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchFieldException {
+        String[] declared = SolveBenchmark.class.getField("solver").getAnnotation(Param.class).value();
+        if (!Arrays.asList(declared).equals(new ArrayList<>(SolverRegistry.names()))) {
+            throw new IllegalStateException("@Param de solver fora de sincronia com o SolverRegistry: "
+                    + Arrays.toString(declared) + " != " + SolverRegistry.names());
+        }
+        mazes = new Maze[MAZES];
+        for (int i = 0; i < mazes.length; i++) {
+            mazes[i] = new Maze(size, size, i + 1);
+            mazes[i].generate();
+        }
+        instance = SolverRegistry.create(solver, threads);
+    }
+
+    @Benchmark
+    public void solve(Blackhole bh) {
+        Maze maze = mazes[next++ % mazes.length];
+        instance.solve(maze.getMaze(), maze.getStart(), maze.getEnd());
+        bh.consume(instance.getSolutionPath());
+        bh.consume(instance.getNodesExpanded());
+    }
+}
@@ -0,0 +1,167 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// A* "de verdade": guarda o custo g de cada célula, permite melhorar caminhos com
+// decrease-key e, em empates de f, prefere a célula com maior g (mais perto do fim)
+public class AStarIndexedSolver implements MazeSolver {
+
+    static final int INFINITY = Integer.MAX_VALUE;
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private SearchWorkspace workspace; // g, pais, fechados e lista aberta, com carimbo de geração
+    private IndexedMinHeap openSet;
+    private final int[] neighborBuffer = new int[4];
+    private long nodesExpanded;
+    private final SolverMetrics metrics = new SolverMetrics();
+    private final GridHeuristic customHeuristic; // null = Manhattan
+    private GridHeuristic heuristic;
+
+    public AStarIndexedSolver() {
+        this(null);
+    }
+
+    // Usa outra heurística no lugar de Manhattan (por exemplo, LandmarkHeuristic)
+    public AStarIndexedSolver(GridHeuristic heuristic) {
+        this.customHeuristic = heuristic;
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+    }
+
+    // Chave da heap: f nos 32 bits altos e (MAX - g) nos baixos, então f menor vence
+    // e, com f igual, vence o maior g
+    static long priority(int f, int g) {
+        return ((long) f << 32) | (0xFFFFFFFFL - g);
+    }
+
+    static int fOf(long priority) {
+        return (int) (priority >>> 32);
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        this.heuristic = customHeuristic != null ? customHeuristic : GridHeuristic.manhattan(grid);
+
+        // Reaproveita um workspace do pool (ou o que já tem): nada é preenchido, só a geração avança
+        if (workspace == null) {
+            workspace = SearchWorkspace.acquire();
+        }
+        workspace.begin(grid.size());
+        openSet = workspace.openSet();
+
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        if (SolverMetrics.ENABLED) metrics.reset();
+
+        int startIdx = grid.index(start);
+        workspace.set(startIdx, 0, -1);
+        openSet.pushOrDecrease(startIdx, priority(0, 0));
+        if (SolverMetrics.ENABLED) metrics.push(1);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (workspace == null || openSet.isEmpty()) {
+            releaseWorkspace();
+            return false;
+        }
+        int goal = grid.index(end);
+        int current = openSet.pop();
+        if (SolverMetrics.ENABLED) metrics.pop();
+        path.add(grid.toPoint(current));
+        nodesExpanded++;
+
+        if (current == goal) {
+            grid.appendPath(workspace.parents(), current, solutionPath);
+            releaseWorkspace();
+            return false;
+        }
+        expandNeighbors(current, goal);
+        return true;
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int goal = grid.index(end);
+        int bestF = 0;
+
+        while (!openSet.isEmpty()) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                releaseWorkspace();
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
+            // Com heurística consistente o f retirado nunca diminui: é um limite inferior do custo
+            bestF = fOf(openSet.peekKey());
+            int current = openSet.pop();
+            if (SolverMetrics.ENABLED) metrics.pop();
+            nodesExpanded++;
+            if (current == goal) {
+                grid.appendPath(workspace.parents(), current, solutionPath);
+                break;
+            }
+            expandNeighbors(current, goal);
+        }
+        releaseWorkspace();
+        return SolveStats.finished(this, bestF, startNanos);
+    }
+
+    private void expandNeighbors(int current, int goal) {
+        workspace.close(current);
+        int tentativeG = workspace.g(current) + 1; // Cada passo no labirinto custa 1
+        int count = grid.neighbors(current, neighborBuffer);
+        for (int i = 0; i < count; i++) {
+            int neighbor = neighborBuffer[i];
+            // Manhattan e landmarks são heurísticas consistentes, então células fechadas já têm o g ótimo
+            if (workspace.isClosed(neighbor)) continue;
+            if (tentativeG < workspace.g(neighbor)) {
+                workspace.set(neighbor, tentativeG, current);
+                int f = tentativeG + heuristic.estimate(neighbor, goal);
+                if (SolverMetrics.ENABLED) {
+                    if (openSet.contains(neighbor)) metrics.duplicatePush();
+                    else metrics.push(openSet.size() + 1);
+                }
+                openSet.pushOrDecrease(neighbor, priority(f, tentativeG));
+            }
+        }
+    }
+
+    // Devolve o workspace ao pool quando a busca termina
+    private void releaseWorkspace() {
+        if (workspace != null) {
+            workspace.release();
+            workspace = null;
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class AStarParallelSolver implements MazeSolver {
 
@@ -14,6 +15,11 @@ public class AStarParallelSolver implements MazeSolver {
     private Set<Point> visited;
     private PriorityBlockingQueue<Node> openSet;
     private Map<Point, Point> cameFrom;
+    private final AtomicLong nodesExpanded = new AtomicLong();
+    private int bestF;                   // Maior f retirado pelo laço principal
+    private volatile boolean interrupted;
+    private final SolverMetrics metrics = new SolverMetrics();
+    private final AtomicLong openCount = new AtomicLong(); // Tamanho da lista aberta, só com métricas
 
     private final int parallelism;
 
@@ -36,23 +42,49 @@ public class AStarParallelSolver implements MazeSolver {
         visited.clear();
         openSet.clear();
         cameFrom.clear();
+        nodesExpanded.set(0);
+        if (SolverMetrics.ENABLED) {
+            metrics.reset();
+            openCount.set(1);
+        }
         openSet.add(new Node(start, 0));
         visited.add(start);
+        if (SolverMetrics.ENABLED) metrics.push(1);
     }
 
     @Override
     public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
         initialize(maze, start);
+        bestF = 0;
+        interrupted = false;
 
-        // Cria um ForkJoinPool customizado com o número de threads especificado
-        ForkJoinPool customPool = new ForkJoinPool(this.parallelism);
+        // Pega emprestado um ForkJoinPool com o número de threads especificado
+        ForkJoinPool customPool = SolverExecutors.acquire(this.parallelism);
 
         try {
             // Executa a lógica de solução dentro do pool customizado
             customPool.submit(() -> {
+                long iteration = 0;
                 while (!openSet.isEmpty() && solutionPath.isEmpty()) {
+                    // O token é consultado no próprio laço, então o get() abaixo nunca fica preso
+                    if (token.shouldStop(++iteration)) {
+                        interrupted = true;
+                        return;
+                    }
                     Node current = openSet.poll();
                     if (current == null) continue;
+                    if (SolverMetrics.ENABLED) {
+                        metrics.pop();
+                        openCount.decrementAndGet();
+                    }
+                    nodesExpanded.incrementAndGet();
+                    bestF = Math.max(bestF, (int) current.fScore);
 
                     if (current.point.equals(end)) {
                         reconstructPath(current.point);
@@ -64,8 +96,12 @@ public class AStarParallelSolver implements MazeSolver {
         } catch (Exception e) {
             e.printStackTrace();
         } finally {
-            customPool.shutdown();
+            SolverExecutors.release(customPool);
         }
+        if (interrupted) {
+            return SolveStats.interrupted(token, nodesExpanded.get(), bestF, startNanos);
+        }
+        return SolveStats.finished(this, bestF, startNanos);
     }
 
     private void expandNeighborsInParallel(Node current, Point end) {
@@ -79,7 +115,12 @@ public class AStarParallelSolver implements MazeSolver {
         if (openSet.isEmpty()) return false;
         Node current = openSet.poll();
         if (current == null) return true;
+        if (SolverMetrics.ENABLED) {
+            metrics.pop();
+            openCount.decrementAndGet();
+        }
         path.add(current.point);
+        nodesExpanded.incrementAndGet();
         if (current.point.equals(end)) {
             reconstructPath(current.point);
             return false;
@@ -93,7 +134,16 @@ public class AStarParallelSolver implements MazeSolver {
             cameFrom.put(neighbor, current.point);
             double gScore = 1;
             double hScore = Math.abs(neighbor.x - end.x) + Math.abs(neighbor.y - end.y);
-            openSet.add(new Node(neighbor, gScore + hScore));
+            if (SolverMetrics.ENABLED) {
+                // Tempo dentro do add: espera pelo lock único da fila mais a inserção na heap.
+                // O tamanho vem de um contador próprio para não tomar o lock de novo com size()
+                long lockStart = System.nanoTime();
+                openSet.add(new Node(neighbor, gScore + hScore));
+                metrics.lockedSection(System.nanoTime() - lockStart);
+                metrics.push(openCount.incrementAndGet());
+            } else {
+                openSet.add(new Node(neighbor, gScore + hScore));
+            }
         }
     }
 
@@ -120,6 +170,12 @@ public class AStarParallelSolver implements MazeSolver {
         }
     }
 
+    @Override
+    public long getNodesExpanded() { return nodesExpanded.get(); }
+
+    @Override
+    public SolverMetrics getMetrics() { return metrics; }
+
     @Override
     public List<Point> getPath() { return path; }
 
@@ -0,0 +1,138 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// Mesma busca do AStarSequentialSolver, mas sobre índices lineares e vetores primitivos:
+// o laço de expansão não cria Points, Nodes nem coleções
+public class AStarPrimitiveSolver implements MazeSolver {
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private IntMinHeap openSet;
+    private long[] visited; // Máscara de bits: 1 bit por célula
+    private int[] cameFrom;
+    private final int[] neighborBuffer = new int[4];
+    private long nodesExpanded;
+
+    public AStarPrimitiveSolver() {
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.openSet = new IntMinHeap(1024);
+        this.visited = new long[0];
+        this.cameFrom = new int[0];
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+
+        int cells = grid.size();
+        int words = (cells + 63) >>> 6;
+        // Os vetores só são realocados quando o labirinto cresce
+        if (visited.length < words) {
+            visited = new long[words];
+        } else {
+            Arrays.fill(visited, 0, words, 0L);
+        }
+        if (cameFrom.length < cells) {
+            cameFrom = new int[cells];
+        }
+
+        path.clear();
+        solutionPath.clear();
+        openSet.clear();
+        nodesExpanded = 0;
+
+        int startIdx = grid.index(start);
+        openSet.push(startIdx, 0);
+        markVisited(startIdx);
+        cameFrom[startIdx] = -1;
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (openSet.isEmpty()) {
+            return false;
+        }
+
+        int goal = grid.index(end);
+        int current = openSet.pop();
+        path.add(grid.toPoint(current));
+        nodesExpanded++;
+
+        if (current == goal) {
+            grid.appendPath(cameFrom, current, solutionPath);
+            return false;
+        }
+
+        expandNeighbors(current, goal);
+
+        return true;
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int goal = grid.index(end);
+
+        // Laço principal sem alocações; o caminho explorado (path) só é preenchido pelo step()
+        while (!openSet.isEmpty()) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                return SolveStats.interrupted(token, nodesExpanded, -1, startNanos);
+            }
+            int current = openSet.pop();
+            nodesExpanded++;
+            if (current == goal) {
+                grid.appendPath(cameFrom, current, solutionPath);
+                break;
+            }
+            expandNeighbors(current, goal);
+        }
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
+    private void expandNeighbors(int current, int goal) {
+        int count = grid.neighbors(current, neighborBuffer);
+        for (int i = 0; i < count; i++) {
+            int neighbor = neighborBuffer[i];
+            if (!isVisited(neighbor)) {
+                markVisited(neighbor);
+                cameFrom[neighbor] = current;
+                int gScore = 1; // Mesmo custo usado pelo AStarSequentialSolver
+                int hScore = grid.manhattan(neighbor, goal);
+                openSet.push(neighbor, gScore + hScore);
+            }
+        }
+    }
+
+    private boolean isVisited(int idx) {
+        return (visited[idx >>> 6] & (1L << idx)) != 0;
+    }
+
+    private void markVisited(int idx) {
+        visited[idx >>> 6] |= 1L << idx;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
@@ -12,6 +12,9 @@ public class AStarSequentialSolver implements MazeSolver {
     private Set<Point> visited;
     private PriorityQueue<Node> openSet;
     private Map<Point, Point> cameFrom;
+    private long nodesExpanded;
+    private int bestF; // Maior f já retirado da lista aberta
+    private final SolverMetrics metrics = new SolverMetrics();
 
     public AStarSequentialSolver() {
         this.path = new ArrayList<>();
@@ -30,9 +33,13 @@ public class AStarSequentialSolver implements MazeSolver {
         visited.clear();
         openSet.clear();
         cameFrom.clear();
+        nodesExpanded = 0;
+        bestF = 0;
+        if (SolverMetrics.ENABLED) metrics.reset();
 
         openSet.add(new Node(start, 0));
         visited.add(start);
+        if (SolverMetrics.ENABLED) metrics.push(1);
     }
 
     @Override
@@ -42,7 +49,10 @@ public class AStarSequentialSolver implements MazeSolver {
         }
 
         Node current = openSet.poll();
+        if (SolverMetrics.ENABLED) metrics.pop();
         path.add(current.point);
+        nodesExpanded++;
+        bestF = Math.max(bestF, (int) current.fScore);
 
         if (current.point.equals(end)) {
             reconstructPath(current.point);
@@ -56,10 +66,21 @@ public class AStarSequentialSolver implements MazeSolver {
 
     @Override
     public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
         initialize(maze, start);
+        long iteration = 0;
         while(step(end)) {
-            // Continua executando os passos em loop até encontrar a solução
+            // Continua executando os passos em loop até encontrar a solução ou ser cancelado
+            if (token.shouldStop(++iteration)) {
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
         }
+        return SolveStats.finished(this, bestF, startNanos);
     }
 
     private void expandNeighbors(Node current, Point end) {
@@ -71,6 +92,7 @@ public class AStarSequentialSolver implements MazeSolver {
                 double gScore = calculateGScore(current.point, neighbor);
                 double hScore = heuristic(neighbor, end);
                 openSet.add(new Node(neighbor, gScore + hScore));
+                if (SolverMetrics.ENABLED) metrics.push(openSet.size());
             }
         }
     }
@@ -109,6 +131,16 @@ public class AStarSequentialSolver implements MazeSolver {
         return 1;
     }
 
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public List<Point> getPath() {
         return path;
@@ -0,0 +1,315 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// ARA* (Anytime Repairing A*): começa com f = g + w * h e peso w inflado, o que acha um caminho
+// rápido com custo no máximo w vezes o ótimo. Depois o peso diminui aos poucos e cada nova
+// busca reaproveita g e pais da anterior: só as células abertas ou inconsistentes são
+// retomadas. Cada melhoria é publicada junto com o limite de subotimalidade atual.
+public class AnytimeAStarSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int FIXED_POINT = 16;       // f guardado em 1/16 de unidade
+    private static final long G_MASK = 0xFFFFFFL;    // 24 bits de desempate por g
+
+    // Chamado a cada caminho melhor encontrado (na thread que está resolvendo)
+    public interface SolutionListener {
+        void onImprovedSolution(List<Point> path, double suboptimalityBound, long elapsedNanos);
+    }
+
+    // Uma melhoria publicada: custo, limite e quando aconteceu
+    public static final class Improvement {
+        private final int cost;
+        private final double bound;
+        private final double weight;
+        private final long elapsedNanos;
+        private final long nodesExpanded;
+
+        Improvement(int cost, double bound, double weight, long elapsedNanos, long nodesExpanded) {
+            this.cost = cost;
+            this.bound = bound;
+            this.weight = weight;
+            this.elapsedNanos = elapsedNanos;
+            this.nodesExpanded = nodesExpanded;
+        }
+
+        public int getCost() { return cost; }
+        public double getBound() { return bound; }
+        public double getWeight() { return weight; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public long getNodesExpanded() { return nodesExpanded; }
+    }
+
+    private final double initialWeight;
+    private final double weightStep;
+    private SolutionListener listener;
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private volatile List<Point> solutionPath;
+    private final List<Improvement> improvements;
+    private SearchWorkspace workspace; // g, pais, fechados e lista aberta; fica com o solver até o fim
+    private IndexedMinHeap openSet;
+    private long[] inconsistent;    // Marca quem está na lista INCONS (só os bits da lista ficam ligados)
+    private int[] inconsList;
+    private int inconsCount;
+    private final int[] neighborBuffer = new int[4];
+    private int goal = -1;
+    private double weight;
+    private double bound;
+    private boolean finished;
+    private long nodesExpanded;
+    private long startNanos;
+
+    public AnytimeAStarSolver() {
+        this(3.0, 0.5);
+    }
+
+    public AnytimeAStarSolver(double initialWeight, double weightStep) {
+        // Sem passo positivo o peso nunca chega a 1 e a busca não termina
+        if (!(weightStep > 0)) {
+            throw new IllegalArgumentException("weightStep precisa ser positivo: " + weightStep);
+        }
+        this.initialWeight = Math.max(1.0, initialWeight);
+        this.weightStep = weightStep;
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.improvements = new ArrayList<>();
+        this.inconsistent = new long[0];
+        this.inconsList = new int[0];
+    }
+
+    public void setSolutionListener(SolutionListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        if (inconsList.length < cells) {
+            inconsList = new int[cells];
+            inconsistent = new long[(cells + 63) >>> 6];
+            inconsCount = 0;
+        } else {
+            // Uma busca interrompida pode ter deixado células na lista INCONS
+            clearInconsistent();
+        }
+        if (workspace == null) {
+            workspace = SearchWorkspace.acquire();
+        }
+        workspace.begin(cells);
+        openSet = workspace.openSet();
+
+        path.clear();
+        solutionPath = new ArrayList<>();
+        improvements.clear();
+        nodesExpanded = 0;
+        weight = initialWeight;
+        bound = Double.POSITIVE_INFINITY;
+        finished = false;
+        goal = -1;
+        startNanos = System.nanoTime();
+
+        int startIdx = grid.index(start);
+        workspace.set(startIdx, 0, -1);
+        openSet.pushOrDecrease(startIdx, 0L);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // Com prazo, o resultado é TIMED_OUT/CANCELLED mesmo que já haja caminho: getSolutionPath()
+    // fica com o melhor encontrado até o token disparar, que pode não ser o ótimo
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        initialize(maze, start);
+        setGoal(grid.index(end));
+        long iteration = 0;
+        while (!finished) {
+            if (token.shouldStop(++iteration)) {
+                int bestF = improvements.isEmpty() ? currentF() : improvements.get(improvements.size() - 1).getCost();
+                releaseWorkspace();
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
+            if (searchDone()) {
+                finishIteration();
+            } else {
+                expand(openSet.pop());
+            }
+        }
+        int cost = workspace.g(goal);
+        releaseWorkspace();
+        return SolveStats.finished(this, cost == INFINITY ? -1 : cost, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (goal < 0) {
+            setGoal(grid.index(end));
+        }
+        if (finished || workspace == null) {
+            releaseWorkspace();
+            return false;
+        }
+        if (searchDone()) {
+            finishIteration();
+            if (finished) {
+                releaseWorkspace();
+            }
+            return !finished;
+        }
+        int current = openSet.pop();
+        path.add(grid.toPoint(current));
+        expand(current);
+        return true;
+    }
+
+    private void setGoal(int goalIdx) {
+        goal = goalIdx;
+        int startIdx = openSet.peek();
+        openSet.remove(startIdx);
+        openSet.pushOrDecrease(startIdx, key(startIdx));
+    }
+
+    // A busca com o peso atual termina quando nenhuma célula aberta tem f menor que g(fim)
+    private boolean searchDone() {
+        if (openSet.isEmpty()) return true;
+        int goalG = workspace.g(goal);
+        if (goalG == INFINITY) return false;
+        return ((long) goalG * FIXED_POINT) <= (openSet.peekKey() >>> 24);
+    }
+
+    private void expand(int current) {
+        nodesExpanded++;
+        workspace.close(current);
+        int tentativeG = workspace.g(current) + 1;
+        int count = grid.neighbors(current, neighborBuffer);
+        for (int i = 0; i < count; i++) {
+            int neighbor = neighborBuffer[i];
+            if (tentativeG >= workspace.g(neighbor)) continue;
+            workspace.set(neighbor, tentativeG, current);
+            if (!workspace.isClosed(neighbor)) {
+                openSet.pushOrDecrease(neighbor, key(neighbor));
+            } else if ((inconsistent[neighbor >>> 6] & (1L << neighbor)) == 0) {
+                // Já fechada nesta iteração: fica para a próxima, com peso menor
+                inconsistent[neighbor >>> 6] |= 1L << neighbor;
+                inconsList[inconsCount++] = neighbor;
+            }
+        }
+    }
+
+    // Publica o caminho da iteração, reduz o peso e reabre as células inconsistentes
+    private void finishIteration() {
+        int goalG = workspace.g(goal);
+        if (goalG == INFINITY) {
+            finished = true; // Sem caminho
+            return;
+        }
+        double newBound = Math.min(weight, (double) goalG / Math.max(1, minUnweightedF()));
+        if (improvements.isEmpty() || newBound < bound || goalG < improvements.get(improvements.size() - 1).getCost()) {
+            bound = Math.max(1.0, newBound);
+            publish();
+        }
+        if (bound <= 1.0 || weight <= 1.0) {
+            finished = true;
+            return;
+        }
+        weight = Math.max(1.0, weight - weightStep);
+
+        // OPEN recebe INCONS e todas as chaves são recalculadas com o novo peso
+        int[] reopened = new int[openSet.size() + inconsCount];
+        int n = 0;
+        while (!openSet.isEmpty()) {
+            reopened[n++] = openSet.pop();
+        }
+        for (int i = 0; i < inconsCount; i++) {
+            reopened[n++] = inconsList[i];
+        }
+        clearInconsistent();
+        workspace.clearClosed();
+        for (int i = 0; i < n; i++) {
+            openSet.pushOrDecrease(reopened[i], key(reopened[i]));
+        }
+    }
+
+    // Menor g + h entre as células abertas ou inconsistentes: limite inferior do custo ótimo
+    private int minUnweightedF() {
+        long best = workspace.g(goal);
+        for (int i = 0; i < openSet.size(); i++) {
+            int cell = openSet.itemAt(i);
+            best = Math.min(best, (long) workspace.g(cell) + grid.manhattan(cell, goal));
+        }
+        for (int i = 0; i < inconsCount; i++) {
+            int cell = inconsList[i];
+            best = Math.min(best, (long) workspace.g(cell) + grid.manhattan(cell, goal));
+        }
+        return (int) best;
+    }
+
+    private void publish() {
+        List<Point> improved = new ArrayList<>();
+        grid.appendPath(workspace.parents(), goal, improved);
+        solutionPath = improved;
+        long elapsed = System.nanoTime() - startNanos;
+        improvements.add(new Improvement(workspace.g(goal), bound, weight, elapsed, nodesExpanded));
+        if (listener != null) {
+            listener.onImprovedSolution(improved, bound, elapsed);
+        }
+    }
+
+    // Chave: f = g + w * h em ponto fixo nos bits altos e, em empates, o maior g
+    private long key(int cell) {
+        int g = workspace.g(cell);
+        long f = Math.round((g + weight * grid.manhattan(cell, goal)) * FIXED_POINT);
+        return (f << 24) | (G_MASK - Math.min(g, G_MASK));
+    }
+
+    // Desliga só os bits das células que estão na lista INCONS
+    private void clearInconsistent() {
+        for (int i = 0; i < inconsCount; i++) {
+            int cell = inconsList[i];
+            inconsistent[cell >>> 6] &= ~(1L << cell);
+        }
+        inconsCount = 0;
+    }
+
+    // Devolve o workspace ao pool quando a busca termina
+    private void releaseWorkspace() {
+        if (workspace != null) {
+            workspace.release();
+            workspace = null;
+        }
+    }
+
+    private int currentF() {
+        return openSet.isEmpty() ? -1 : (int) ((openSet.peekKey() >>> 24) / FIXED_POINT);
+    }
+
+    public List<Improvement> getImprovements() {
+        return improvements;
+    }
+
+    // Limite atual: o custo do caminho publicado é no máximo bound vezes o ótimo
+    public double getSuboptimalityBound() {
+        return bound;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
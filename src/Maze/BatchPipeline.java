@@ -0,0 +1,260 @@
+package Maze;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Lote em pipeline: threads geradoras criam labirintos e os entregam por uma fila limitada às
+// threads que resolvem. O paralelismo fica entre labirintos (cada busca é sequencial), que é o
+// que importa quando há milhares de labirintos independentes. Cada thread de solução guarda os
+// seus resultados em uma lista própria, e as listas só são juntadas no final, sem locks.
+// Se uma thread morrer (inclusive por Error), todas param: as esperas na fila têm prazo e
+// olham o sinal de parada, então nenhuma geradora fica presa em uma fila que ninguém esvazia.
+public class BatchPipeline {
+
+    private static final Job POISON = new Job(-1, null);
+    private static final long QUEUE_WAIT_MS = 50; // Prazo de cada espera na fila antes de olhar "stopped"
+
+    private static final class Job {
+        final int index;
+        final Maze maze;
+
+        Job(int index, Maze maze) {
+            this.index = index;
+            this.maze = maze;
+        }
+    }
+
+    private static final class IndexedResult {
+        final int index;
+        final BenchmarkResult result;
+
+        IndexedResult(int index, BenchmarkResult result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+
+    // Um solver que lançou exceção em um labirinto; o lote continua sem a linha dele
+    public static final class Failure {
+        private final int index;
+        private final String mazeName;
+        private final String algorithmName;
+        private final RuntimeException error;
+
+        Failure(int index, String mazeName, String algorithmName, RuntimeException error) {
+            this.index = index;
+            this.mazeName = mazeName;
+            this.algorithmName = algorithmName;
+            this.error = error;
+        }
+
+        public String getMazeName() { return mazeName; }
+        public String getAlgorithmName() { return algorithmName; }
+        public RuntimeException getError() { return error; }
+
+        @Override
+        public String toString() {
+            return algorithmName + " em " + mazeName + ": " + error;
+        }
+    }
+
+    public static final class Report {
+        private final int mazes;
+        private final long wallNanos;
+        private final long generationBusyNanos;
+        private final long solveBusyNanos;
+        private final int generatorThreads;
+        private final int solverThreads;
+        private final List<BenchmarkResult> results;
+        private final List<Failure> failures;
+
+        Report(int mazes, long wallNanos, long generationBusyNanos, long solveBusyNanos,
+               int generatorThreads, int solverThreads, List<BenchmarkResult> results, List<Failure> failures) {
+            this.mazes = mazes;
+            this.wallNanos = wallNanos;
+            this.generationBusyNanos = generationBusyNanos;
+            this.solveBusyNanos = solveBusyNanos;
+            this.generatorThreads = generatorThreads;
+            this.solverThreads = solverThreads;
+            this.results = results;
+            this.failures = failures;
+        }
+
+        public int getMazes() { return mazes; }
+        public long getWallNanos() { return wallNanos; }
+        public List<BenchmarkResult> getResults() { return results; }
+        public List<Failure> getFailures() { return failures; }
+
+        public double getMazesPerSecond() {
+            return wallNanos == 0 ? 0 : mazes * 1_000_000_000.0 / wallNanos;
+        }
+
+        // Fração do tempo total em que as threads de cada etapa estavam trabalhando (0 a 1)
+        public double getGenerationUtilization() {
+            return (double) generationBusyNanos / ((double) wallNanos * generatorThreads);
+        }
+
+        public double getSolveUtilization() {
+            return (double) solveBusyNanos / ((double) wallNanos * solverThreads);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d labirintos em %.1f ms (%.2f labirintos/s), utilização: geração %.0f%% (%d threads), solução %.0f%% (%d threads), %d falhas",
+                    mazes, wallNanos / 1_000_000.0, getMazesPerSecond(),
+                    getGenerationUtilization() * 100, generatorThreads,
+                    getSolveUtilization() * 100, solverThreads, failures.size());
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int mazeCount;
+    private final int generatorThreads;
+    private final int solverThreads;
+    private final int queueCapacity;
+    private final Map<String, Supplier<MazeSolver>> solvers;
+
+    public BatchPipeline(int rows, int cols, int mazeCount, int generatorThreads, int solverThreads,
+                         int queueCapacity, Map<String, Supplier<MazeSolver>> solvers) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mazeCount = mazeCount;
+        this.generatorThreads = Math.max(1, generatorThreads);
+        this.solverThreads = Math.max(1, solverThreads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.solvers = new LinkedHashMap<>(solvers);
+    }
+
+    public Report run() throws InterruptedException, ExecutionException {
+        BlockingQueue<Job> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger nextIndex = new AtomicInteger(1);
+        AtomicInteger activeGenerators = new AtomicInteger(generatorThreads);
+        AtomicBoolean stopped = new AtomicBoolean();
+        LongAdder generationBusy = new LongAdder();
+        LongAdder solveBusy = new LongAdder();
+
+        ExecutorService executor = SolverExecutors.tasks();
+        long start = System.nanoTime();
+
+        List<Future<?>> generators = new ArrayList<>();
+        for (int t = 0; t < generatorThreads; t++) {
+            generators.add(executor.submit(() -> {
+                try {
+                    for (int index = nextIndex.getAndIncrement(); index <= mazeCount && !stopped.get(); index = nextIndex.getAndIncrement()) {
+                        long busyStart = System.nanoTime();
+                        Maze maze = new Maze(rows, cols);
+                        maze.generate();
+                        generationBusy.add(System.nanoTime() - busyStart);
+                        // Espera se as threads de solução estiverem atrasadas
+                        if (!put(queue, new Job(index, maze), stopped)) break;
+                    }
+                } catch (Throwable e) {
+                    stop(stopped, queue);
+                    throw e;
+                } finally {
+                    // A última geradora a terminar avisa cada thread de solução
+                    if (activeGenerators.decrementAndGet() == 0) {
+                        for (int s = 0; s < solverThreads; s++) {
+                            if (!put(queue, POISON, stopped)) break;
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        List<Future<List<IndexedResult>>> workers = new ArrayList<>();
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < solverThreads; t++) {
+            workers.add(executor.submit(() -> {
+                try {
+                    // Instâncias próprias desta thread, reaproveitadas entre labirintos
+                    Map<String, MazeSolver> local = new LinkedHashMap<>();
+                    solvers.forEach((name, supplier) -> local.put(name, supplier.get()));
+                    List<IndexedResult> results = new ArrayList<>();
+                    for (Job job = take(queue, stopped); job != null && job != POISON; job = take(queue, stopped)) {
+                        long busyStart = System.nanoTime();
+                        String mazeName = "Labirinto " + job.index;
+                        for (Map.Entry<String, MazeSolver> entry : local.entrySet()) {
+                            MazeSolver solver = entry.getValue();
+                            long solveStart = System.nanoTime();
+                            try {
+                                solver.solve(job.maze.getMaze(), job.maze.getStart(), job.maze.getEnd());
+                            } catch (RuntimeException e) {
+                                // Registrada no relatório; os outros solvers e labirintos continuam
+                                failures.add(new Failure(job.index, mazeName, entry.getKey(), e));
+                                continue;
+                            }
+                            long elapsed = System.nanoTime() - solveStart;
+                            BenchmarkResult result = new BenchmarkResult(mazeName, entry.getKey(), new long[]{elapsed},
+                                    solver.getNodesExpanded(), 1);
+                            result.setMeasured(true);
+                            results.add(new IndexedResult(job.index, result));
+                        }
+                        solveBusy.add(System.nanoTime() - busyStart);
+                    }
+                    return results;
+                } catch (Throwable e) {
+                    stop(stopped, queue);
+                    throw e;
+                }
+            }));
+        }
+
+        List<IndexedResult> merged = new ArrayList<>();
+        boolean completed = false;
+        try {
+            for (Future<List<IndexedResult>> worker : workers) {
+                merged.addAll(worker.get());
+            }
+            for (Future<?> generator : generators) {
+                generator.get();
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                // Falha ou interrupção: as outras threads saem na próxima espera da fila
+                stop(stopped, queue);
+            }
+        }
+        long wall = System.nanoTime() - start;
+
+        // Ordem estável: por labirinto e, dentro dele, na ordem dos solvers
+        merged.sort(Comparator.comparingInt(r -> r.index));
+        List<BenchmarkResult> results = new ArrayList<>(merged.size());
+        for (IndexedResult r : merged) {
+            results.add(r.result);
+        }
+        List<Failure> sortedFailures = new ArrayList<>(failures);
+        sortedFailures.sort(Comparator.comparingInt(f -> f.index));
+        return new Report(mazeCount, wall, generationBusy.sum(), solveBusy.sum(), generatorThreads, solverThreads,
+                results, sortedFailures);
+    }
+
+    // Sinaliza a parada e esvazia a fila, liberando quem estiver esperando para inserir
+    private static void stop(AtomicBoolean stopped, BlockingQueue<Job> queue) {
+        stopped.set(true);
+        queue.clear();
+    }
+
+    // false se o pipeline parou antes de haver espaço na fila
+    private static boolean put(BlockingQueue<Job> queue, Job job, AtomicBoolean stopped) throws InterruptedException {
+        while (!queue.offer(job, QUEUE_WAIT_MS, TimeUnit.MILLISECONDS)) {
+            if (stopped.get()) return false;
+        }
+        return true;
+    }
+
+    // null se o pipeline parou
+    private static Job take(BlockingQueue<Job> queue, AtomicBoolean stopped) throws InterruptedException {
+        while (true) {
+            Job job = queue.poll(QUEUE_WAIT_MS, TimeUnit.MILLISECONDS);
+            if (job != null || stopped.get()) return job;
+        }
+    }
+}
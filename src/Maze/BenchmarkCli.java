@@ -0,0 +1,232 @@
+package Maze;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Benchmark pela linha de comando, sem Swing: percorre a matriz tamanhos x threads x sementes,
+// roda cada solver em "count" labirintos por célula e grava os resultados em CSV. Cada célula
+// também gera os relatórios TXT/CSV do BenchmarkManager, iguais aos da interface, com as
+// estatísticas de cada solver (speedup e eficiência em relação a --baseline). Cada solver roda
+// --warmup vezes sem medir e --repetitions vezes medindo, em cada labirinto. Com --sink os
+// resultados também vão, à medida que saem, para um arquivo binário do ResultSink (lido pelo
+// ResultReader), que pode ser reaproveitado entre execuções.
+//
+// Uso: BenchmarkCli [--sizes 100x100,200x200] [--count 30] [--solvers indexed,jps|all]
+//                   [--threads 1,2,4] [--seeds 1,2] [--warmup 1] [--repetitions 5]
+//                   [--baseline sequential] [--output benchmark_cli] [--timeout-ms 30000]
+//                   [--sink resultados.bin] [--list]
+// Código de saída: 0 = tudo resolvido, 1 = algum solver estourou o prazo ou não achou caminho,
+// 2 = argumentos inválidos. Linhas e colunas precisam ser pares: com dimensões ímpares o fim
+// (linhas - 3, colunas - 3) cai em uma parede e nenhum labirinto tem caminho
+public class BenchmarkCli {
+
+    private static final class Options {
+        List<int[]> sizes = Collections.singletonList(new int[]{100, 100});
+        int count = 30;
+        List<String> solvers = new ArrayList<>(SolverRegistry.names());
+        List<Integer> threads = Collections.singletonList(Runtime.getRuntime().availableProcessors());
+        List<Long> seeds = Collections.singletonList(1L);
+        String output = "benchmark_cli";
+        long timeoutMs = 30_000;
+        int warmup = 1;
+        int repetitions = 5;
+        String baseline;
+        String sink;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        if (options == null) {
+            System.exit(0);
+            return;
+        }
+        try {
+            System.exit(run(options));
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar resultados: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    // Devolve null quando só foi pedida a lista de solvers
+    private static Options parse(String[] args) {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (flag.equals("--list")) {
+                for (String name : SolverRegistry.names()) {
+                    System.out.println(name + "\t" + SolverRegistry.label(name, 1));
+                }
+                return null;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta o valor de " + flag);
+            }
+            String value = args[++i];
+            try {
+                switch (flag) {
+                    case "--sizes":
+                        options.sizes = new ArrayList<>();
+                        for (String size : value.split(",")) options.sizes.add(parseSize(size));
+                        break;
+                    case "--count":
+                        options.count = positive(Integer.parseInt(value), flag);
+                        break;
+                    case "--solvers":
+                        options.solvers = new ArrayList<>();
+                        if (value.equals("all")) {
+                            options.solvers.addAll(SolverRegistry.names());
+                            break;
+                        }
+                        for (String name : value.split(",")) {
+                            if (!SolverRegistry.contains(name)) {
+                                throw new IllegalArgumentException("Solver desconhecido: " + name);
+                            }
+                            options.solvers.add(name);
+                        }
+                        break;
+                    case "--threads":
+                        options.threads = new ArrayList<>();
+                        for (String t : value.split(",")) options.threads.add(positive(Integer.parseInt(t), flag));
+                        break;
+                    case "--seeds":
+                        options.seeds = new ArrayList<>();
+                        for (String s : value.split(",")) options.seeds.add(Long.parseLong(s));
+                        break;
+                    case "--warmup":
+                        options.warmup = Integer.parseInt(value);
+                        if (options.warmup < 0) throw new IllegalArgumentException(flag + " não pode ser negativo");
+                        break;
+                    case "--repetitions":
+                        options.repetitions = positive(Integer.parseInt(value), flag);
+                        break;
+                    case "--baseline":
+                        if (!SolverRegistry.contains(value)) {
+                            throw new IllegalArgumentException("Solver desconhecido: " + value);
+                        }
+                        options.baseline = value;
+                        break;
+                    case "--output":
+                        options.output = value;
+                        break;
+                    case "--timeout-ms":
+                        options.timeoutMs = positive(Integer.parseInt(value), flag);
+                        break;
+                    case "--sink":
+                        options.sink = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opção desconhecida: " + flag);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido para " + flag + ": " + value);
+            }
+        }
+        return options;
+    }
+
+    // "200x100" ou só "200" para um labirinto quadrado
+    private static int[] parseSize(String size) {
+        String[] parts = size.split("x");
+        int rows = Integer.parseInt(parts[0]);
+        int cols = parts.length > 1 ? Integer.parseInt(parts[1]) : rows;
+        if (parts.length > 2 || rows < 5 || cols < 5) {
+            throw new IllegalArgumentException("Tamanho inválido: " + size);
+        }
+        if (rows % 2 != 0 || cols % 2 != 0) {
+            throw new IllegalArgumentException("Tamanho inválido: " + size + " (linhas e colunas precisam ser pares)");
+        }
+        return new int[]{rows, cols};
+    }
+
+    private static int positive(int value, String flag) {
+        if (value <= 0) throw new IllegalArgumentException(flag + " precisa ser positivo");
+        return value;
+    }
+
+    private static void printUsage() {
+        System.err.println("Uso: BenchmarkCli [--sizes 100x100,200x200] [--count 30] [--solvers indexed,jps|all]"
+                + " [--threads 1,2,4] [--seeds 1,2] [--warmup 1] [--repetitions 5] [--baseline sequential]"
+                + " [--output prefixo] [--timeout-ms 30000] [--sink resultados.bin] [--list]");
+        System.err.println("Solvers: " + String.join(",", SolverRegistry.names()));
+    }
+
+    private static int run(Options options) throws IOException {
+        boolean failed = false;
+        File resultsFile = new File(options.output + ".csv");
+        ResultSink sink = options.sink == null ? null : new ResultSink(new File(options.sink).toPath());
+        try (PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(resultsFile), StandardCharsets.UTF_8)))) {
+            out.println("rows,cols,threads,seed,maze,solver,label,outcome,repetition,elapsed_ns,nodes_expanded");
+            for (int[] size : options.sizes) {
+                for (int threads : options.threads) {
+                    for (long seed : options.seeds) {
+                        failed |= runCell(options, size[0], size[1], threads, seed, out, sink);
+                    }
+                }
+            }
+        } finally {
+            if (sink != null) sink.close();
+        }
+        System.out.println(resultsFile.getPath());
+        if (sink != null) System.out.println(options.sink);
+        return failed ? 1 : 0;
+    }
+
+    // Uma célula da matriz: os mesmos labirintos (semente + índice) para qualquer número de threads
+    private static boolean runCell(Options options, int rows, int cols, int threads, long seed, PrintWriter out,
+                                   ResultSink sink) {
+        String cell = rows + "x" + cols + ", " + threads + " threads, semente " + seed;
+        System.err.println("Executando " + cell + "...");
+        BenchmarkManager manager = new BenchmarkManager();
+        manager.setSink(sink);
+        manager.configureNewBatch(rows + "x" + cols, options.count, threads);
+        if (options.baseline != null) {
+            manager.setBaseline(SolverRegistry.label(options.baseline, threads));
+        }
+        Map<String, MazeSolver> solvers = new LinkedHashMap<>();
+        for (String name : options.solvers) {
+            solvers.put(name, SolverRegistry.create(name, threads));
+        }
+
+        boolean failed = false;
+        for (int i = 1; i <= options.count; i++) {
+            Maze maze = new Maze(rows, cols, seed * 1_000_003L + i);
+            maze.generate();
+            manager.nextMaze();
+            for (Map.Entry<String, MazeSolver> entry : solvers.entrySet()) {
+                String label = SolverRegistry.label(entry.getKey(), threads);
+                SolveStats stats = manager.measure(label, entry.getValue(), maze, options.warmup, options.repetitions,
+                        SolverRegistry.threadsUsed(entry.getKey(), threads), options.timeoutMs);
+                if (stats.isInterrupted()) {
+                    failed = true;
+                    System.err.println(label + " interrompido no labirinto " + i + " (" + cell + "): " + stats);
+                } else if (stats.getOutcome() == SolveOutcome.NO_PATH) {
+                    // Todo labirinto gerado tem caminho: não achar é erro do solver
+                    failed = true;
+                    System.err.println(label + " não achou caminho no labirinto " + i + " (" + cell + "): " + stats);
+                }
+                BenchmarkResult result = manager.getResults().get(manager.getResults().size() - 1);
+                long[] samples = result.getSamplesNanos();
+                // Uma linha por repetição medida; um solve interrompido pelo prazo não é amostra
+                for (int r = 0; r < samples.length; r++) {
+                    out.printf(Locale.ROOT, "%d,%d,%d,%d,%d,%s,\"%s\",%s,%d,%d,%d%n", rows, cols, threads, seed, i,
+                            entry.getKey(), label, result.getOutcome(), r + 1, samples[r], result.getNodesExpanded());
+                }
+            }
+        }
+        out.flush();
+        manager.saveReportsToFile(options.output + "_" + rows + "x" + cols + "_" + threads + "t_s" + seed);
+        return failed;
+    }
+}
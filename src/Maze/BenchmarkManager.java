@@ -1,10 +1,16 @@
 package Maze;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -15,6 +21,9 @@ public class BenchmarkManager {
     private String lastMazeSize = "N/A";
     private int lastBatchCount = 0;
     private int lastThreadCount = 0;
+    private final List<String> notes = new ArrayList<>();
+    private String baseline; // Referência de speedup; sem escolha, o primeiro algoritmo do lote
+    private ResultSink sink; // Opcional: cada resultado também vai para o arquivo binário na hora
 
     public BenchmarkManager() {
         this.results = new ArrayList<>();
@@ -23,19 +32,153 @@ public class BenchmarkManager {
 
     public void configureNewBatch(String mazeSize, int batchCount, int threadCount) {
         this.results.clear();
+        this.notes.clear();
+        this.baseline = null;
         this.mazeCounter = 0;
         this.lastMazeSize = mazeSize;
         this.lastBatchCount = batchCount;
         this.lastThreadCount = threadCount;
+        if (sink != null) {
+            try {
+                sink.beginBatch(mazeSize, batchCount, threadCount);
+            } catch (IOException e) {
+                sinkFailed(e);
+            }
+        }
+    }
+
+    // Os resultados seguintes também são gravados em "sink"; quem abriu o sink o fecha
+    public void setSink(ResultSink sink) {
+        this.sink = sink;
     }
 
     public void nextMaze() {
         this.mazeCounter++;
+        if (sink != null) {
+            try {
+                sink.flush();
+            } catch (IOException e) {
+                sinkFailed(e);
+            }
+        }
     }
 
-    public void addResult(String algorithmName, long timeMillis) {
+    public void addResult(String algorithmName, long timeMillis, long nodesExpanded) {
         String mazeName = "Labirinto " + mazeCounter;
-        results.add(new BenchmarkResult(mazeName, algorithmName, timeMillis));
+        record(new BenchmarkResult(mazeName, algorithmName, timeMillis, nodesExpanded));
+    }
+
+    // Uma medida única em nanossegundos
+    public void addTiming(String algorithmName, long elapsedNanos, long nodesExpanded) {
+        addSamples(algorithmName, new long[]{elapsedNanos}, nodesExpanded, 1);
+    }
+
+    // Amostras de repetições medidas (depois do aquecimento) no labirinto atual
+    public void addSamples(String algorithmName, long[] samplesNanos, long nodesExpanded, int threads) {
+        String mazeName = "Labirinto " + mazeCounter;
+        record(new BenchmarkResult(mazeName, algorithmName, samplesNanos, nodesExpanded, threads));
+    }
+
+    private void record(BenchmarkResult result) {
+        results.add(result);
+        if (sink != null) {
+            try {
+                sink.append(result);
+            } catch (IOException e) {
+                sinkFailed(e);
+            }
+        }
+    }
+
+    // Uma falha de disco não interrompe o lote: o sink é desligado e os relatórios em memória seguem
+    private void sinkFailed(IOException e) {
+        System.err.println("Erro ao gravar resultados no arquivo binário: " + e.getMessage());
+        sink = null;
+    }
+
+    // Roda "warmup" solves descartados e "repetitions" medidos no labirinto atual, cada um com
+    // seu prazo, e registra as amostras. Se um solve estoura o prazo a série para ali: o tempo
+    // interrompido não vira amostra (seria só o prazo), e o resultado fica marcado como
+    // interrompido. Com -Dmaze.metrics=true guarda também a média dos
+    // contadores do solver, da alocação e do GC. Devolve o SolveStats do último solve
+    public SolveStats measure(String algorithmName, MazeSolver solver, Maze maze, int warmup, int repetitions,
+                              int threads, long timeoutMs) {
+        long[] samples = new long[repetitions];
+        List<SolverMetrics.Snapshot> snapshots = new ArrayList<>();
+        int measured = 0;
+        SolveStats stats = null;
+        SolveOutcome measuredOutcome = null;
+        for (int run = -warmup; run < repetitions; run++) {
+            // O primeiro SolveEvent inicializa o JFR (centenas de ms): evento e captura de recursos
+            // vêm antes, e o prazo só começa a contar imediatamente antes do solve
+            SolveEvent event = new SolveEvent();
+            SolveResources before = SolverMetrics.ENABLED ? SolveResources.capture() : null;
+            event.begin();
+            CancellationToken token = CancellationToken.withTimeout(timeoutMs);
+            stats = solver.solve(maze.getMaze(), maze.getStart(), maze.getEnd(), token);
+            event.end();
+            SolverMetrics.Snapshot snapshot = null;
+            if (SolverMetrics.ENABLED) {
+                snapshot = solver.getMetrics().snapshot(SolveResources.capture().since(before));
+                if (run >= 0 || stats.isInterrupted()) snapshots.add(snapshot);
+            }
+            if (event.shouldCommit()) {
+                commitEvent(event, algorithmName, stats, snapshot);
+            }
+            if (stats.isInterrupted()) {
+                break;
+            }
+            if (run >= 0) {
+                samples[measured++] = stats.getElapsedNanos();
+                measuredOutcome = stats.getOutcome();
+            }
+        }
+        BenchmarkResult result = new BenchmarkResult("Labirinto " + mazeCounter, algorithmName,
+                Arrays.copyOf(samples, measured), stats.getNodesExpanded(), threads);
+        result.setOutcome(measuredOutcome, stats.isInterrupted());
+        result.setMeasured(true);
+        if (!snapshots.isEmpty()) {
+            result.setMetrics(SolverMetrics.Snapshot.average(snapshots));
+        }
+        record(result);
+        return stats;
+    }
+
+    private static void commitEvent(SolveEvent event, String algorithmName, SolveStats stats, SolverMetrics.Snapshot snapshot) {
+        event.algorithm = algorithmName;
+        event.outcome = stats.getOutcome().name();
+        event.nodesExpanded = stats.getNodesExpanded();
+        if (snapshot != null) {
+            if (snapshot.isInstrumented()) {
+                event.pushes = snapshot.getPushes();
+                event.pops = snapshot.getPops();
+                event.duplicatePushes = snapshot.getDuplicatePushes();
+                event.peakOpenSize = snapshot.getPeakOpenSize();
+                event.casFailures = snapshot.getCasFailures();
+            }
+            event.allocatedBytes = snapshot.getAllocatedBytes();
+        }
+        event.commit();
+    }
+
+    public List<BenchmarkResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public void setBaseline(String algorithmName) {
+        this.baseline = algorithmName;
+    }
+
+    // Resultados prontos (por exemplo, de um BatchPipeline), já em ordem de labirinto
+    public void addResults(List<BenchmarkResult> batchResults) {
+        for (BenchmarkResult result : batchResults) {
+            record(result);
+        }
+    }
+
+    // Linha extra no fim do relatório TXT (vazão, utilização etc.)
+    public void addNote(String note) {
+        notes.add(note);
     }
 
     public String generateTxtReport() {
@@ -44,77 +187,301 @@ public class BenchmarkManager {
         sb.append(String.format("Resultados do Benchmark com %d labirintos, de tamanho %s e com %d threads:\n\n",
                 this.lastBatchCount, this.lastMazeSize, this.lastThreadCount));
 
-        sb.append(String.format("%-20s %-25s %-25s\n", "Número do labirinto", "Tempo sequencial (ms)", "Tempo paralelo (ms)"));
-        sb.append(String.format("%-20s %-25s %-25s\n", "--------------------", "-------------------------", "-------------------------"));
+        List<String> algorithms = algorithmNames();
 
-        Map<String, List<BenchmarkResult>> groupedByMaze = results.stream()
-                .collect(Collectors.groupingBy(
-                        BenchmarkResult::getMazeName,
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
+        sb.append(String.format("%-20s", "Número do labirinto"));
+        for (String algorithm : algorithms) {
+            sb.append(String.format(" %-30s %-15s", "Tempo " + algorithm + " (ms)", "Nós expandidos"));
+        }
+        sb.append("\n");
+        sb.append(String.format("%-20s", "--------------------"));
+        for (int i = 0; i < algorithms.size(); i++) {
+            sb.append(String.format(" %-30s %-15s", "------------------------------", "---------------"));
+        }
+        sb.append("\n");
+
+        for (Map.Entry<String, List<BenchmarkResult>> entry : groupByMaze().entrySet()) {
+            sb.append(String.format("%-20s", entry.getKey()));
+            for (String algorithm : algorithms) {
+                BenchmarkResult result = findResult(entry.getValue(), algorithm);
+                sb.append(String.format(" %-30s %-15d", formatMeanMillis(result),
+                        result == null ? 0L : result.getNodesExpanded()));
+            }
+            sb.append("\n");
+        }
+        if (results.stream().anyMatch(BenchmarkResult::isInterrupted)) {
+            sb.append("* série interrompida pelo prazo: só as repetições anteriores ao corte entram na média\n");
+        }
 
-        for (Map.Entry<String, List<BenchmarkResult>> entry : groupedByMaze.entrySet()) {
-            String mazeName = entry.getKey();
-            List<BenchmarkResult> mazeResults = entry.getValue();
+        sb.append("\n").append(generateStatisticsReport());
+        if (hasMetrics()) {
+            sb.append("\n").append(generateMetricsReport());
+        }
 
-            long sequentialTime = mazeResults.stream()
-                    .filter(r -> r.getAlgorithmName().toLowerCase().contains("sequencial"))
-                    .findFirst()
-                    .map(BenchmarkResult::getTimeMillis)
-                    .orElse(0L);
+        for (String note : notes) {
+            sb.append("\n").append(note);
+        }
+        return sb.toString();
+    }
 
-            long parallelTime = mazeResults.stream()
-                    .filter(r -> r.getAlgorithmName().toLowerCase().contains("paralelo"))
-                    .findFirst()
-                    .map(BenchmarkResult::getTimeMillis)
-                    .orElse(0L);
+    // Média em ms; "*" marca série cortada pelo prazo, que só tem as repetições anteriores ao corte
+    private static String formatMeanMillis(BenchmarkResult result) {
+        if (result == null) return String.format("%.3f", 0.0);
+        if (result.isInterrupted() && result.getSamplesNanos().length == 0) return "interrompido";
+        return String.format("%.3f", result.getMeanNanos() / 1e6) + (result.isInterrupted() ? "*" : "");
+    }
 
-            sb.append(String.format("%-20s %-25d %-25d\n", mazeName, sequentialTime, parallelTime));
+    // Todas as amostras de cada algoritmo no lote, com speedup e eficiência paralela em relação
+    // à referência: speedup = média da referência / média; eficiência = speedup / (threads / threads da referência).
+    // Só os solves medidos entram na comparação; as medidas avulsas (addTiming) vêm em seção própria
+    public String generateStatisticsReport() {
+        List<String> algorithms = measuredAlgorithmNames();
+        String reference = baselineName(algorithms);
+        StringBuilder sb = new StringBuilder(String.format(
+                "Estatísticas por algoritmo (tempos em ms, IC de 95%% da média, referência: %s):\n\n", reference));
+        sb.append(String.format("%-40s %7s %7s %10s %10s %10s %10s %10s %10s %10s %10s %8s %10s%n",
+                "Algoritmo", "Threads", "Amostras", "Média", "± IC95", "Desvio", "p50", "p90", "p99",
+                "Mín", "Máx", "Speedup", "Eficiência"));
+        SampleStatistics referenceStats = reference == null ? null : statisticsOf(reference);
+        for (String algorithm : algorithms) {
+            SampleStatistics stats = statisticsOf(algorithm);
+            double speedup = speedup(referenceStats, stats);
+            sb.append(String.format("%-40s %7d %7d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %8.2f %9.0f%%%n",
+                    algorithm, threadsOf(algorithm), stats.getCount(), stats.getMean() / 1e6,
+                    stats.getConfidenceHalfWidth() / 1e6, stats.getStdDev() / 1e6,
+                    stats.percentile(0.50) / 1e6, stats.percentile(0.90) / 1e6, stats.percentile(0.99) / 1e6,
+                    stats.getMin() / 1e6, stats.getMax() / 1e6, speedup,
+                    100 * efficiency(speedup, threadsOf(algorithm), threadsOf(reference))));
+        }
+        List<String> singleShot = singleShotAlgorithmNames();
+        if (!singleShot.isEmpty()) {
+            sb.append("\nMedidas avulsas (pré-processamento, lotes de consultas, edições; tempos em ms, sem comparação com a referência):\n\n");
+            sb.append(String.format("%-40s %7s %10s %10s %10s %15s%n", "Algoritmo", "Medidas", "Média", "Mín", "Máx", "Nós (média)"));
+            for (String algorithm : singleShot) {
+                List<BenchmarkResult> rows = singleShotResults(algorithm);
+                SampleStatistics stats = singleShotStatistics(rows);
+                sb.append(String.format("%-40s %7d %10.3f %10.3f %10.3f %15.1f%n", algorithm, stats.getCount(),
+                        stats.getMean() / 1e6, stats.getMin() / 1e6, stats.getMax() / 1e6, meanNodes(rows)));
+            }
         }
+        return sb.toString();
+    }
+
+    private boolean hasMetrics() {
+        return results.stream().anyMatch(r -> r.getMetrics() != null);
+    }
 
+    // Médias por solve dos contadores de cada algoritmo (só os que foram medidos com métricas)
+    private Map<String, SolverMetrics.Snapshot> metricsByAlgorithm() {
+        Map<String, SolverMetrics.Snapshot> byAlgorithm = new LinkedHashMap<>();
+        for (String algorithm : algorithmNames()) {
+            List<SolverMetrics.Snapshot> snapshots = results.stream()
+                    .filter(r -> r.getAlgorithmName().equals(algorithm) && r.getMetrics() != null)
+                    .map(BenchmarkResult::getMetrics)
+                    .collect(Collectors.toList());
+            if (!snapshots.isEmpty()) {
+                byAlgorithm.put(algorithm, SolverMetrics.Snapshot.average(snapshots));
+            }
+        }
+        return byAlgorithm;
+    }
+
+    // Solvers sem contadores (getMetrics() == EMPTY) aparecem com "n/a" e só alocação e GC
+    public String generateMetricsReport() {
+        StringBuilder sb = new StringBuilder("Métricas por solve (médias, -Dmaze.metrics=true; n/a = solver sem contadores):\n\n");
+        sb.append(String.format("%-40s %10s %10s %10s %10s %10s %10s %12s %12s %5s %8s%n",
+                "Algoritmo", "Pushes", "Pops", "Duplicados", "Pico aberta", "CAS perd.", "tryLock", "Em lock (ms)",
+                "Alocado (KB)", "GCs", "Coleta (ms)"));
+        for (Map.Entry<String, SolverMetrics.Snapshot> entry : metricsByAlgorithm().entrySet()) {
+            SolverMetrics.Snapshot m = entry.getValue();
+            if (m.isInstrumented()) {
+                sb.append(String.format("%-40s %10d %10d %10d %10d %10d %10d %12.3f",
+                        entry.getKey(), m.getPushes(), m.getPops(), m.getDuplicatePushes(), m.getPeakOpenSize(),
+                        m.getCasFailures(), m.getLockFailures(), m.getLockedNanos() / 1e6));
+            } else {
+                sb.append(String.format("%-40s %10s %10s %10s %10s %10s %10s %12s",
+                        entry.getKey(), "n/a", "n/a", "n/a", "n/a", "n/a", "n/a", "n/a"));
+            }
+            sb.append(String.format(" %12d %5d %8d%n",
+                    m.getAllocatedBytes() / 1024, m.getGcCount(), m.getGcCollectionMillis()));
+        }
+        return sb.toString();
+    }
+
+    public String generateMetricsCsv() {
+        StringBuilder sb = new StringBuilder("ALGORITMO,PUSHES,POPS,DUPLICADOS,PICO_ABERTA,CAS_PERDIDOS,TRYLOCK_FALHOS,EM_LOCK_NS,ALOCADO_BYTES,GCS,COLETA_GC_MS\n");
+        for (Map.Entry<String, SolverMetrics.Snapshot> entry : metricsByAlgorithm().entrySet()) {
+            SolverMetrics.Snapshot m = entry.getValue();
+            // Contadores vazios (em vez de 0) para solvers sem instrumentação
+            String counters = !m.isInstrumented() ? ",,,,,," : String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%d,%d",
+                    m.getPushes(), m.getPops(), m.getDuplicatePushes(), m.getPeakOpenSize(),
+                    m.getCasFailures(), m.getLockFailures(), m.getLockedNanos());
+            sb.append(String.format(Locale.ROOT, "\"%s\",%s,%d,%d,%d\n",
+                    entry.getKey(), counters, m.getAllocatedBytes(), m.getGcCount(), m.getGcCollectionMillis()));
+        }
+        return sb.toString();
+    }
+
+    public String generateStatisticsCsv() {
+        List<String> algorithms = measuredAlgorithmNames();
+        String reference = baselineName(algorithms);
+        SampleStatistics referenceStats = reference == null ? null : statisticsOf(reference);
+        StringBuilder sb = new StringBuilder("ALGORITMO,THREADS,AMOSTRAS,MEDIA_NS,IC95_NS,DESVIO_NS,P50_NS,P90_NS,P99_NS,MIN_NS,MAX_NS,SPEEDUP,EFICIENCIA,REFERENCIA\n");
+        for (String algorithm : algorithms) {
+            SampleStatistics stats = statisticsOf(algorithm);
+            double speedup = speedup(referenceStats, stats);
+            sb.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.1f,%.1f,%.1f,%d,%d,%d,%d,%d,%.4f,%.4f,\"%s\"\n",
+                    algorithm, threadsOf(algorithm), stats.getCount(), stats.getMean(),
+                    stats.getConfidenceHalfWidth(), stats.getStdDev(), stats.percentile(0.50),
+                    stats.percentile(0.90), stats.percentile(0.99), stats.getMin(), stats.getMax(),
+                    speedup, efficiency(speedup, threadsOf(algorithm), threadsOf(reference)), reference));
+        }
+        return sb.toString();
+    }
+
+    // Medidas avulsas, uma linha por algoritmo, sem speedup, eficiência nem IC
+    public String generateSingleShotCsv() {
+        StringBuilder sb = new StringBuilder("ALGORITMO,MEDIDAS,MEDIA_NS,MIN_NS,MAX_NS,MEDIA_NOS\n");
+        for (String algorithm : singleShotAlgorithmNames()) {
+            List<BenchmarkResult> rows = singleShotResults(algorithm);
+            SampleStatistics stats = singleShotStatistics(rows);
+            sb.append(String.format(Locale.ROOT, "\"%s\",%d,%.1f,%d,%d,%.1f\n", algorithm, stats.getCount(),
+                    stats.getMean(), stats.getMin(), stats.getMax(), meanNodes(rows)));
+        }
         return sb.toString();
     }
 
+    private String baselineName(List<String> algorithms) {
+        if (baseline != null && algorithms.contains(baseline)) return baseline;
+        return algorithms.isEmpty() ? null : algorithms.get(0);
+    }
+
+    private SampleStatistics statisticsOf(String algorithm) {
+        return SampleStatistics.of(results.stream()
+                .filter(r -> r.isMeasured() && r.getAlgorithmName().equals(algorithm))
+                .flatMapToLong(r -> Arrays.stream(r.getSamplesNanos()))
+                .toArray());
+    }
+
+    private List<BenchmarkResult> singleShotResults(String algorithm) {
+        return results.stream()
+                .filter(r -> !r.isMeasured() && r.getAlgorithmName().equals(algorithm))
+                .collect(Collectors.toList());
+    }
+
+    private static SampleStatistics singleShotStatistics(List<BenchmarkResult> rows) {
+        return SampleStatistics.of(rows.stream().flatMapToLong(r -> Arrays.stream(r.getSamplesNanos())).toArray());
+    }
+
+    private static double meanNodes(List<BenchmarkResult> rows) {
+        return rows.stream().mapToLong(BenchmarkResult::getNodesExpanded).average().orElse(0);
+    }
+
+    private int threadsOf(String algorithm) {
+        return results.stream()
+                .filter(r -> r.getAlgorithmName().equals(algorithm))
+                .mapToInt(BenchmarkResult::getThreads)
+                .findFirst()
+                .orElse(1);
+    }
+
+    private static double speedup(SampleStatistics reference, SampleStatistics stats) {
+        return reference == null || stats.getMean() == 0 ? 0 : reference.getMean() / stats.getMean();
+    }
+
+    private static double efficiency(double speedup, int threads, int referenceThreads) {
+        return speedup * referenceThreads / threads;
+    }
+
     public String generateCsvReport() {
-        StringBuilder sb = new StringBuilder("LABIRINTO,TEMPO SEQUENCIAL (ms),TEMPO PARALELO (ms),TAMANHO_LABIRINTO,QTD_TOTAL_LABIRINTOS,NUM_THREADS\n");
+        List<String> algorithms = algorithmNames();
 
-        Map<String, List<BenchmarkResult>> groupedByMaze = results.stream()
+        StringBuilder sb = new StringBuilder("LABIRINTO");
+        for (String algorithm : algorithms) {
+            String column = algorithm.toUpperCase();
+            sb.append(",TEMPO ").append(column).append(" (ms),NOS EXPANDIDOS ").append(column);
+        }
+        sb.append(",TAMANHO_LABIRINTO,QTD_TOTAL_LABIRINTOS,NUM_THREADS\n");
+
+        for (Map.Entry<String, List<BenchmarkResult>> entry : groupByMaze().entrySet()) {
+            sb.append(entry.getKey());
+            for (String algorithm : algorithms) {
+                BenchmarkResult result = findResult(entry.getValue(), algorithm);
+                // Série interrompida sem nenhuma repetição completa: sem tempo, em vez de 0
+                boolean noSamples = result != null && result.getSamplesNanos().length == 0;
+                sb.append(',').append(noSamples ? "" : String.format(Locale.ROOT, "%.3f", result == null ? 0.0 : result.getMeanNanos() / 1e6));
+                sb.append(',').append(result == null ? 0L : result.getNodesExpanded());
+            }
+            sb.append(String.format(",%s,%d,%d\n", this.lastMazeSize, this.lastBatchCount, this.lastThreadCount));
+        }
+        return sb.toString();
+    }
+
+    // Algoritmos na ordem em que apareceram no lote, cada um vira um grupo de colunas
+    private List<String> algorithmNames() {
+        return results.stream()
+                .map(BenchmarkResult::getAlgorithmName)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> measuredAlgorithmNames() {
+        return results.stream()
+                .filter(BenchmarkResult::isMeasured)
+                .map(BenchmarkResult::getAlgorithmName)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> singleShotAlgorithmNames() {
+        return results.stream()
+                .filter(r -> !r.isMeasured())
+                .map(BenchmarkResult::getAlgorithmName)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, List<BenchmarkResult>> groupByMaze() {
+        return results.stream()
                 .collect(Collectors.groupingBy(
                         BenchmarkResult::getMazeName,
                         LinkedHashMap::new,
                         Collectors.toList()
                 ));
+    }
 
-        for (Map.Entry<String, List<BenchmarkResult>> entry : groupedByMaze.entrySet()) {
-            String mazeName = entry.getKey();
-            List<BenchmarkResult> mazeResults = entry.getValue();
-            long sequentialTime = mazeResults.stream()
-                    .filter(r -> r.getAlgorithmName().toLowerCase().contains("sequencial"))
-                    .findFirst()
-                    .map(BenchmarkResult::getTimeMillis)
-                    .orElse(0L);
-            long parallelTime = mazeResults.stream()
-                    .filter(r -> r.getAlgorithmName().toLowerCase().contains("paralelo"))
-                    .findFirst()
-                    .map(BenchmarkResult::getTimeMillis)
-                    .orElse(0L);
-            sb.append(String.format("%s,%d,%d,%s,%d,%d\n",
-                    mazeName, sequentialTime, parallelTime, this.lastMazeSize, this.lastBatchCount, this.lastThreadCount));
-        }
-        return sb.toString();
+    private BenchmarkResult findResult(List<BenchmarkResult> mazeResults, String algorithmName) {
+        return mazeResults.stream()
+                .filter(r -> r.getAlgorithmName().equals(algorithmName))
+                .findFirst()
+                .orElse(null);
     }
 
     public void saveReportsToFile() {
-        try (FileWriter txtWriter = new FileWriter("benchmark_results.txt")) {
-            txtWriter.write(generateTxtReport());
-        } catch (IOException e) {
-            System.err.println("Erro ao salvar o arquivo TXT: " + e.getMessage());
+        saveReportsToFile("benchmark_results");
+    }
+
+    // Grava <basePath>.txt, <basePath>.csv, <basePath>_estatisticas.csv e, quando houver,
+    // <basePath>_medidas_avulsas.csv e <basePath>_metricas.csv. Os relatórios do lote atual vêm da lista em memória; o histórico
+    // completo, entre lotes e execuções, fica no ResultSink
+    public void saveReportsToFile(String basePath) {
+        writeReport(basePath + ".txt", generateTxtReport(), "o arquivo TXT");
+        writeReport(basePath + ".csv", generateCsvReport(), "o arquivo CSV");
+        writeReport(basePath + "_estatisticas.csv", generateStatisticsCsv(), "o arquivo de estatísticas");
+        if (!singleShotAlgorithmNames().isEmpty()) {
+            writeReport(basePath + "_medidas_avulsas.csv", generateSingleShotCsv(), "o arquivo de medidas avulsas");
         }
-        try (FileWriter csvWriter = new FileWriter("benchmark_results.csv")) {
-            csvWriter.write(generateCsvReport());
+        if (hasMetrics()) {
+            writeReport(basePath + "_metricas.csv", generateMetricsCsv(), "o arquivo de métricas");
+        }
+    }
+
+    // Escrita em UTF-8 por um canal com buffer
+    private static void writeReport(String file, String content, String description) {
+        try (Writer writer = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+            writer.write(content);
         } catch (IOException e) {
-            System.err.println("Erro ao salvar o arquivo CSV: " + e.getMessage());
+            System.err.println("Erro ao salvar " + description + ": " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,60 @@
 package Maze;
 
+// Tempos de um algoritmo em um labirinto: uma amostra em nanossegundos por repetição medida
+// (o aquecimento não entra) e o número de threads usado, para o cálculo de eficiência
 public class BenchmarkResult {
     private String mazeName;
     private String algorithmName;
-    private long timeMillis;
+    private long[] samplesNanos;
+    private long nodesExpanded;
+    private int threads;
+    private SolverMetrics.Snapshot metrics; // Médias por solve; null sem -Dmaze.metrics=true
+    private SolveOutcome outcome;           // Resultado das repetições medidas; null se não houve nenhuma
+    private boolean interrupted;            // Série cortada pelo prazo; o solve interrompido não é amostra
+    private boolean measured;               // Solves medidos de um labirinto: entram em speedup, eficiência e IC
 
-    public BenchmarkResult(String mazeName, String algorithmName, long timeMillis) {
+    public BenchmarkResult(String mazeName, String algorithmName, long timeMillis, long nodesExpanded) {
+        this(mazeName, algorithmName, new long[]{timeMillis * 1_000_000}, nodesExpanded, 1);
+    }
+
+    public BenchmarkResult(String mazeName, String algorithmName, long[] samplesNanos, long nodesExpanded, int threads) {
         this.mazeName = mazeName;
         this.algorithmName = algorithmName;
-        this.timeMillis = timeMillis;
+        this.samplesNanos = samplesNanos;
+        this.nodesExpanded = nodesExpanded;
+        this.threads = Math.max(1, threads);
     }
 
     public String getMazeName() { return mazeName; }
     public String getAlgorithmName() { return algorithmName; }
-    public long getTimeMillis() { return timeMillis; }
-}
\ No newline at end of file
+    public long getTimeMillis() { return Math.round(getMeanNanos() / 1_000_000); }
+    public long getNodesExpanded() { return nodesExpanded; }
+    public long[] getSamplesNanos() { return samplesNanos; }
+    public int getThreads() { return threads; }
+    public SolverMetrics.Snapshot getMetrics() { return metrics; }
+    public SolveOutcome getOutcome() { return outcome; }
+    public boolean isInterrupted() { return interrupted; }
+    public boolean isMeasured() { return measured; }
+
+    public void setMetrics(SolverMetrics.Snapshot metrics) {
+        this.metrics = metrics;
+    }
+
+    // Marcado por quem mede solves comparáveis (BenchmarkManager.measure, BatchPipeline); medidas
+    // avulsas, como pré-processamento ou o total de um lote de consultas, ficam sem a marca
+    public void setMeasured(boolean measured) {
+        this.measured = measured;
+    }
+
+    public void setOutcome(SolveOutcome outcome, boolean interrupted) {
+        this.outcome = outcome;
+        this.interrupted = interrupted;
+    }
+
+    public double getMeanNanos() {
+        if (samplesNanos.length == 0) return 0;
+        double sum = 0;
+        for (long sample : samplesNanos) sum += sample;
+        return sum / samplesNanos.length;
+    }
+}
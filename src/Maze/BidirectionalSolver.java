@@ -0,0 +1,269 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Busca bidirecional com duas threads: uma parte do início e outra do fim. Os corredores
+// do labirinto não têm direção, então cada lado faz uma BFS e as distâncias de um lado são
+// lidas pelo outro sem locks (AtomicIntegerArray) para detectar o encontro das fronteiras.
+public class BidirectionalSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final long NO_MEETING = Long.MAX_VALUE;
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private Frontier forward;
+    private Frontier backward;
+    // Melhor encontro até agora: (custo << 32) | célula, atualizado por CAS
+    private final AtomicLong bestMeeting = new AtomicLong(NO_MEETING);
+    private Point meetingPoint;
+    private boolean stepForward;
+    private boolean goalSet;
+    private CancellationToken token = CancellationToken.NONE; // Consultado pelos dois lados
+    private volatile boolean interrupted;
+
+    public BidirectionalSolver() {
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        if (forward == null || forward.parent.length < cells) {
+            forward = new Frontier(cells);
+            backward = new Frontier(cells);
+        }
+        forward.other = backward;
+        backward.other = forward;
+        forward.reset();
+        backward.reset();
+
+        path.clear();
+        solutionPath.clear();
+        bestMeeting.set(NO_MEETING);
+        meetingPoint = null;
+        stepForward = true;
+        goalSet = false;
+
+        forward.seed(grid.index(start));
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        setGoal(end);
+        this.token = token;
+        interrupted = false;
+
+        // A exceção de um lado sai daqui: um portfólio não pode tomá-la por "sem caminho"
+        ForkJoinPool customPool = SolverExecutors.acquire(2);
+        try {
+            Future<?> backwardTask = customPool.submit(backward::run);
+            Future<?> forwardTask = customPool.submit(forward::run);
+            SolverExecutors.awaitAll(Arrays.asList(forwardTask, backwardTask), () -> {
+                interrupted = true;
+                forward.finished = true;
+                backward.finished = true;
+            });
+        } finally {
+            this.token = CancellationToken.NONE;
+            SolverExecutors.release(customPool);
+        }
+        if (interrupted) {
+            solutionPath.clear();
+            return SolveStats.interrupted(token, getNodesExpanded(), -1, startNanos);
+        }
+        finish();
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
+    // Na animação os dois lados avançam alternadamente na mesma thread
+    @Override
+    public boolean step(Point end) {
+        setGoal(end);
+        for (int i = 0; i < 2; i++) {
+            Frontier side = stepForward ? forward : backward;
+            stepForward = !stepForward;
+            if (!side.finished) {
+                int cell = side.expandNext();
+                if (cell >= 0) {
+                    path.add(grid.toPoint(cell));
+                    return true;
+                }
+            }
+        }
+        finish();
+        return false;
+    }
+
+    private void setGoal(Point end) {
+        if (!goalSet) {
+            goalSet = true;
+            int goal = grid.index(end);
+            if (grid.isOpen(goal)) {
+                backward.seed(goal);
+            } else {
+                // Fim em uma parede: o lado de trás nem começa e não há caminho
+                backward.top = INFINITY;
+                backward.finished = true;
+            }
+        }
+    }
+
+    private void finish() {
+        solutionPath.clear();
+        long meeting = bestMeeting.get();
+        if (meeting == NO_MEETING) {
+            return;
+        }
+        int meet = (int) meeting;
+        meetingPoint = grid.toPoint(meet);
+        // Metade do início até o encontro (invertida) e metade do encontro até o fim
+        grid.appendPath(forward.parent, meet, solutionPath);
+        for (int cur = backward.parent[meet]; cur != -1; cur = backward.parent[cur]) {
+            solutionPath.add(grid.toPoint(cur));
+        }
+    }
+
+    private void offerMeeting(int cost, int cell) {
+        long candidate = ((long) cost << 32) | cell;
+        long current;
+        while (candidate < (current = bestMeeting.get())) {
+            if (bestMeeting.compareAndSet(current, candidate)) return;
+        }
+    }
+
+    private int meetingCost() {
+        long meeting = bestMeeting.get();
+        return meeting == NO_MEETING ? INFINITY : (int) (meeting >>> 32);
+    }
+
+    private final class Frontier {
+        final AtomicIntegerArray dist; // Distância + 1; 0 = ainda não alcançada por este lado
+        final int[] parent;
+        final int[] queue;
+        final int[] neighborBuffer = new int[4];
+        Frontier other;
+        int head;
+        int tail;
+        volatile int top; // Distância do nó sendo expandido (INFINITY quando a fila acabou)
+        volatile boolean finished;
+
+        Frontier(int cells) {
+            this.dist = new AtomicIntegerArray(cells);
+            this.parent = new int[cells];
+            this.queue = new int[cells];
+        }
+
+        // Só as células que entraram na fila da busca anterior têm distância: limpa só elas
+        void reset() {
+            for (int i = 0; i < tail; i++) {
+                dist.lazySet(queue[i], 0);
+            }
+            head = 0;
+            tail = 0;
+            top = 0;
+            finished = false;
+        }
+
+        void seed(int cell) {
+            dist.set(cell, 1);
+            parent[cell] = -1;
+            queue[tail++] = cell;
+            if (other.dist.get(cell) != 0) {
+                offerMeeting(other.dist.get(cell) - 1, cell);
+            }
+        }
+
+        // Um lado que vê o token ou falha encerra também o outro
+        void run() {
+            try {
+                search();
+            } catch (Throwable e) {
+                finished = true;
+                other.finished = true;
+                throw e;
+            }
+        }
+
+        private void search() {
+            long iteration = 0;
+            while (!finished) {
+                if (interrupted || token.shouldStop(++iteration)) {
+                    interrupted = true;
+                    finished = true;
+                    other.finished = true;
+                    return;
+                }
+                expandNext();
+            }
+        }
+
+        // Expande o próximo nó da BFS ou encerra este lado. Critério de parada para o caminho
+        // ótimo: topo deste lado + topo do outro >= melhor encontro conhecido
+        int expandNext() {
+            if (head == tail) {
+                top = INFINITY;
+                finished = true;
+                return -1;
+            }
+            int cell = queue[head];
+            int d = dist.get(cell) - 1;
+            top = d;
+            // Lê o topo do outro lado antes do encontro: um valor antigo só deixa a parada mais tardia
+            long otherTop = other.top;
+            if (d + otherTop >= meetingCost()) {
+                finished = true;
+                return -1;
+            }
+            head++;
+            int count = grid.neighbors(cell, neighborBuffer);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighborBuffer[i];
+                if (dist.get(neighbor) != 0) continue;
+                parent[neighbor] = cell;
+                dist.set(neighbor, d + 2);
+                queue[tail++] = neighbor;
+                int otherDist = other.dist.get(neighbor);
+                if (otherDist != 0) {
+                    offerMeeting(d + 1 + otherDist - 1, neighbor);
+                }
+            }
+            return cell;
+        }
+    }
+
+    // Célula onde as duas fronteiras se encontraram na última busca (null se não houve caminho)
+    public Point getMeetingPoint() {
+        return meetingPoint;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return (forward == null ? 0 : forward.head) + (backward == null ? 0 : backward.head);
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
@@ -0,0 +1,314 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// BFS em frente de onda sobre o labirinto compactado em bits: cada linha vira um long[] e
+// 64 células avançam de uma vez com deslocamentos, AND com a máscara de caminhos e OR.
+// A única informação por célula é a camada (distância + 1) usada para recuperar o caminho.
+// Os buffers ficam com o solver enquanto as dimensões não mudam, a máscara de caminhos é
+// reaproveitada enquanto a matriz for a mesma e cada solve limpa só o que a busca anterior tocou.
+public class BitParallelBfsSolver implements MazeSolver {
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private int rows;
+    private int cols;
+    private int wordsPerRow;
+    private long[][] passable;
+    private int[][] passableMaze; // Matriz de onde "passable" foi montado
+    private long[][] reached;
+    // Linhas com bits em "reached" e o intervalo de palavras tocado em cada uma
+    private int[] dirtyRows;
+    private int dirtyCount;
+    private int[] dirtyLo;
+    private int[] dirtyHi;
+    private long[][] frontier;
+    private long[][] nextFrontier;
+    private int[] layer; // 0 = não alcançada; senão distância + 1
+    // Linhas com fronteira não vazia e o intervalo de palavras ocupado em cada uma
+    private int[] activeRows;
+    private int activeCount;
+    private int[] frontierLo;
+    private int[] frontierHi;
+    private int[] nextActiveRows;
+    private int nextActiveCount;
+    private int[] nextLo;
+    private int[] nextHi;
+    // Linhas candidatas do nível atual (marcadas com o número do nível)
+    private int[] candidateStamp;
+    private int[] candidateRows;
+    private int[] candidateLo;
+    private int[] candidateHi;
+    private int startIdx;
+    private int level;
+    private long nodesExpanded;
+    private final int[] neighborBuffer = new int[4];
+
+    public BitParallelBfsSolver() {
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        if (layer == null || grid.rows() != rows || grid.cols() != cols) {
+            allocate(grid.rows(), grid.cols());
+        } else {
+            clearPrevious();
+        }
+        if (passableMaze != maze) {
+            buildPassable(maze);
+        }
+        Arrays.fill(candidateStamp, -1);
+
+        path.clear();
+        solutionPath.clear();
+        level = 0;
+        nodesExpanded = 1;
+
+        int r = start.x, c = start.y;
+        reached[r][c >>> 6] |= 1L << c;
+        markReached(r, c >>> 6);
+        frontier[r][c >>> 6] |= 1L << c;
+        startIdx = grid.index(start);
+        layer[startIdx] = 1;
+        activeRows[0] = r;
+        activeCount = 1;
+        frontierLo[r] = frontierHi[r] = c >>> 6;
+    }
+
+    // Buffers novos (zerados) para outras dimensões
+    private void allocate(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        wordsPerRow = (cols + 63) >>> 6;
+        passable = new long[rows][wordsPerRow];
+        passableMaze = null;
+        reached = new long[rows][wordsPerRow];
+        frontier = new long[rows][wordsPerRow];
+        nextFrontier = new long[rows][wordsPerRow];
+        layer = new int[rows * cols];
+        dirtyRows = new int[rows];
+        dirtyCount = 0;
+        dirtyLo = new int[rows];
+        dirtyHi = new int[rows];
+        Arrays.fill(dirtyLo, -1);
+        activeRows = new int[rows];
+        activeCount = 0;
+        nextActiveRows = new int[rows];
+        frontierLo = new int[rows];
+        frontierHi = new int[rows];
+        nextLo = new int[rows];
+        nextHi = new int[rows];
+        candidateStamp = new int[rows];
+        candidateRows = new int[rows];
+        candidateLo = new int[rows];
+        candidateHi = new int[rows];
+    }
+
+    // Zera camadas e "reached" só nas palavras alcançadas e a última fronteira só no intervalo
+    // usado; "nextFrontier" já sai limpo de cada camada
+    private void clearPrevious() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int r = dirtyRows[i];
+            long[] seen = reached[r];
+            int rowBase = r * cols;
+            for (int w = dirtyLo[r]; w <= dirtyHi[r]; w++) {
+                for (long bits = seen[w]; bits != 0; bits &= bits - 1) {
+                    layer[rowBase + (w << 6) + Long.numberOfTrailingZeros(bits)] = 0;
+                }
+                seen[w] = 0L;
+            }
+            dirtyLo[r] = -1;
+        }
+        dirtyCount = 0;
+        for (int i = 0; i < activeCount; i++) {
+            int r = activeRows[i];
+            Arrays.fill(frontier[r], frontierLo[r], frontierHi[r] + 1, 0L);
+        }
+        activeCount = 0;
+    }
+
+    // Percorre a matriz inteira: só acontece quando o labirinto muda
+    private void buildPassable(int[][] maze) {
+        for (int r = 0; r < rows; r++) {
+            int[] row = maze[r];
+            long[] bits = passable[r];
+            Arrays.fill(bits, 0L);
+            for (int c = 0; c < cols; c++) {
+                if (row[c] == 1) bits[c >>> 6] |= 1L << c;
+            }
+        }
+        passableMaze = maze;
+    }
+
+    private void markReached(int r, int w) {
+        if (dirtyLo[r] < 0) {
+            dirtyRows[dirtyCount++] = r;
+            dirtyLo[r] = dirtyHi[r] = w;
+        } else {
+            dirtyLo[r] = Math.min(dirtyLo[r], w);
+            dirtyHi[r] = Math.max(dirtyHi[r], w);
+        }
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // O token é visto a cada CHECK_INTERVAL camadas; em corredores uma camada tem poucas palavras
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int goal = grid.index(end);
+        while (layer[goal] == 0 && activeCount > 0) {
+            if (token.shouldStop(level)) {
+                return SolveStats.interrupted(token, nodesExpanded, level, startNanos);
+            }
+            advance(false);
+        }
+        reconstructPath(goal);
+        return SolveStats.finished(this, level, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        int goal = grid.index(end);
+        if (layer[goal] != 0 || activeCount == 0) {
+            reconstructPath(goal);
+            return false;
+        }
+        advance(true);
+        return true;
+    }
+
+    // Avança a frente de onda em uma camada
+    private void advance(boolean recordPath) {
+        int candidates = 0;
+        for (int i = 0; i < activeCount; i++) {
+            int r = activeRows[i];
+            int lo = Math.max(0, frontierLo[r] - 1);
+            int hi = Math.min(wordsPerRow - 1, frontierHi[r] + 1);
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                if (candidateStamp[rr] != level) {
+                    candidateStamp[rr] = level;
+                    candidateRows[candidates++] = rr;
+                    candidateLo[rr] = lo;
+                    candidateHi[rr] = hi;
+                } else {
+                    candidateLo[rr] = Math.min(candidateLo[rr], lo);
+                    candidateHi[rr] = Math.max(candidateHi[rr], hi);
+                }
+            }
+        }
+
+        nextActiveCount = 0;
+        int nextLayer = level + 2;
+        for (int i = 0; i < candidates; i++) {
+            int r = candidateRows[i];
+            long[] up = r > 0 ? frontier[r - 1] : null;
+            long[] down = r + 1 < rows ? frontier[r + 1] : null;
+            long[] same = frontier[r];
+            long[] open = passable[r];
+            long[] seen = reached[r];
+            long[] out = nextFrontier[r];
+            int rowBase = r * cols;
+            int lo = -1, hi = -1;
+
+            for (int w = candidateLo[r]; w <= candidateHi[r]; w++) {
+                long f = same[w];
+                long fromLeft = (f << 1) | (w > 0 ? same[w - 1] >>> 63 : 0L);
+                long fromRight = (f >>> 1) | (w + 1 < wordsPerRow ? same[w + 1] << 63 : 0L);
+                long grow = fromLeft | fromRight;
+                if (up != null) grow |= up[w];
+                if (down != null) grow |= down[w];
+                long fresh = grow & open[w] & ~seen[w];
+                if (fresh == 0) continue;
+
+                seen[w] |= fresh;
+                out[w] = fresh;
+                if (lo < 0) lo = w;
+                hi = w;
+                nodesExpanded += Long.bitCount(fresh);
+                for (long bits = fresh; bits != 0; bits &= bits - 1) {
+                    int idx = rowBase + (w << 6) + Long.numberOfTrailingZeros(bits);
+                    layer[idx] = nextLayer;
+                    if (recordPath) path.add(grid.toPoint(idx));
+                }
+            }
+            if (lo >= 0) {
+                markReached(r, lo);
+                markReached(r, hi);
+                nextActiveRows[nextActiveCount++] = r;
+                nextLo[r] = lo;
+                nextHi[r] = hi;
+            }
+        }
+
+        // Limpa a fronteira antiga somente no intervalo usado e troca os buffers
+        for (int i = 0; i < activeCount; i++) {
+            int r = activeRows[i];
+            Arrays.fill(frontier[r], frontierLo[r], frontierHi[r] + 1, 0L);
+        }
+        long[][] swap = frontier;
+        frontier = nextFrontier;
+        nextFrontier = swap;
+        int[] swapRows = activeRows;
+        activeRows = nextActiveRows;
+        nextActiveRows = swapRows;
+        activeCount = nextActiveCount;
+        int[] swapLo = frontierLo;
+        frontierLo = nextLo;
+        nextLo = swapLo;
+        int[] swapHi = frontierHi;
+        frontierHi = nextHi;
+        nextHi = swapHi;
+        level++;
+    }
+
+    // Volta do fim ao início sempre por um vizinho com camada uma unidade menor
+    private void reconstructPath(int goal) {
+        solutionPath.clear();
+        if (layer[goal] == 0) {
+            return;
+        }
+        Point[] reversed = new Point[layer[goal]];
+        int cur = goal;
+        for (int i = reversed.length - 1; i >= 0; i--) {
+            reversed[i] = grid.toPoint(cur);
+            if (i == 0) break;
+            if (i == 1) {
+                cur = startIdx; // O início pode ser uma parede, que não aparece entre os vizinhos
+                continue;
+            }
+            int count = grid.neighbors(cur, neighborBuffer);
+            for (int k = 0; k < count; k++) {
+                if (layer[neighborBuffer[k]] == layer[cur] - 1) {
+                    cur = neighborBuffer[k];
+                    break;
+                }
+            }
+        }
+        solutionPath.addAll(Arrays.asList(reversed));
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
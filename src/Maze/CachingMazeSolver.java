@@ -0,0 +1,118 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Decorator que guarda em um PathCache o resultado de solve(maze, início, fim) de qualquer
+// MazeSolver. O labirinto é identificado pelo conteúdo (MazeFingerprint), então matrizes
+// diferentes com as mesmas paredes compartilham as entradas. O fingerprint é calculado uma vez
+// por versão da matriz: cada thread lembra o da última matriz vista até que invalidate() seja
+// chamado depois de uma edição. Pode ser chamado por várias threads sem lock: cada thread
+// tem a própria instância do solver interno (criada pelo Supplier) e vê o próprio resultado.
+public class CachingMazeSolver implements MazeSolver {
+
+    private static final class Result {
+        final MazeSolver delegate;
+        final List<Point> solutionPath = new ArrayList<>();
+        long nodesExpanded;
+        boolean cacheHit;
+        int[][] fingerprintedMaze; // Matriz do último fingerprint calculado por esta thread
+        int fingerprintVersion;
+        long fingerprint;
+
+        Result(MazeSolver delegate) {
+            this.delegate = delegate;
+        }
+    }
+
+    private final PathCache cache;
+    private final ThreadLocal<Result> lastResult;
+    private final AtomicInteger version = new AtomicInteger();
+
+    public CachingMazeSolver(Supplier<MazeSolver> delegates, PathCache cache) {
+        this.cache = cache;
+        this.lastResult = ThreadLocal.withInitial(() -> new Result(delegates.get()));
+    }
+
+    // A animação passo a passo não passa pelo cache
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        lastResult.get().delegate.initialize(maze, start);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        return lastResult.get().delegate.step(end);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        Result result = lastResult.get();
+        result.solutionPath.clear();
+        long fingerprint = fingerprint(result, maze);
+        byte[] encoded = cache.get(fingerprint, start, end);
+        if (encoded != null) {
+            PathCodec.decodeInto(encoded, result.solutionPath);
+            result.nodesExpanded = 0;
+            result.cacheHit = true;
+            return SolveStats.finished(this, -1, startNanos);
+        }
+        result.cacheHit = false;
+        SolveStats stats = result.delegate.solve(maze, start, end, token);
+        result.nodesExpanded = result.delegate.getNodesExpanded();
+        // Caminho parcial de uma busca interrompida não vai para o cache
+        if (stats.isInterrupted()) return stats;
+        result.solutionPath.addAll(result.delegate.getSolutionPath());
+        cache.put(fingerprint, start, end, PathCodec.encode(result.solutionPath));
+        return stats;
+    }
+
+    // Deve ser chamado depois de alterar uma matriz já usada aqui: o próximo solve de cada
+    // thread recalcula o fingerprint
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private long fingerprint(Result result, int[][] maze) {
+        int current = version.get();
+        if (result.fingerprintedMaze != maze || result.fingerprintVersion != current) {
+            result.fingerprint = MazeFingerprint.of(maze);
+            result.fingerprintedMaze = maze;
+            result.fingerprintVersion = current;
+        }
+        return result.fingerprint;
+    }
+
+    // Se o último solve desta thread foi respondido pelo cache
+    public boolean wasCacheHit() {
+        return lastResult.get().cacheHit;
+    }
+
+    public PathCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return lastResult.get().nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return lastResult.get().delegate.getPath();
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return lastResult.get().solutionPath;
+    }
+}
@@ -0,0 +1,51 @@
+package Maze;
+
+// Pedido de cancelamento cooperativo, opcionalmente com prazo. Os solvers consultam o token
+// a cada CHECK_INTERVAL expansões, então o custo fica em uma leitura volátil e, com prazo,
+// uma chamada a System.nanoTime() a cada mil e poucas células.
+public final class CancellationToken {
+
+    public static final int CHECK_INTERVAL = 1024;
+
+    // Token que nunca é cancelado
+    public static final CancellationToken NONE = new CancellationToken(Long.MAX_VALUE);
+
+    private final long deadlineNanos; // Instante absoluto de System.nanoTime(), ou Long.MAX_VALUE
+    private volatile boolean cancelled;
+
+    private CancellationToken(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static CancellationToken create() {
+        return new CancellationToken(Long.MAX_VALUE);
+    }
+
+    public static CancellationToken withTimeout(long millis) {
+        return new CancellationToken(System.nanoTime() + millis * 1_000_000);
+    }
+
+    public void cancel() {
+        if (this != NONE) {
+            cancelled = true;
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled || isTimedOut();
+    }
+
+    public boolean isTimedOut() {
+        return deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    // Atalho para os laços de expansão: só olha o token a cada CHECK_INTERVAL iterações
+    public boolean shouldStop(long iteration) {
+        return (iteration & (CHECK_INTERVAL - 1)) == 0 && isCancelled();
+    }
+
+    // Resultado de uma execução interrompida: prazo esgotado ou cancelamento explícito
+    SolveOutcome interruptedOutcome() {
+        return isTimedOut() && !cancelled ? SolveOutcome.TIMED_OUT : SolveOutcome.CANCELLED;
+    }
+}
@@ -0,0 +1,277 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// Responde consultas sobre o grafo contraído (MazeGraph): o A* só visita bifurcações e
+// becos sem saída. Início e fim dentro de um corredor são ligados às duas pontas dele.
+// O grafo é construído uma vez por labirinto e reaproveitado enquanto a matriz for a mesma.
+public class ContractedGraphSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private MazeGraph graph;
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private IndexedMinHeap openSet;
+    private int[] gScore;
+    private int[] parentNode;
+    private int[] parentCorridor;
+    private int[] gStamp;        // Geração em que g/pai do nó foram escritos
+    private int[] closedStamp;   // Geração em que o nó foi fechado
+    private int generation;
+    private int startCell;
+    private int goalCell;
+    private int bestCost;
+    private int bestExit;   // Nó pelo qual o fim é alcançado (-1 = caminho direto no corredor)
+    private long nodesExpanded;
+    private long queries;
+
+    public ContractedGraphSolver() {
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.openSet = new IndexedMinHeap(256);
+    }
+
+    public ContractedGraphSolver(MazeGraph graph) {
+        this();
+        useGraph(graph);
+    }
+
+    // Constrói (ou reaproveita) o grafo contraído do labirinto
+    public MazeGraph prepare(int[][] maze) {
+        if (graph == null || graph.getMaze() != maze) {
+            useGraph(MazeGraph.build(maze));
+        }
+        return graph;
+    }
+
+    private void useGraph(MazeGraph graph) {
+        this.graph = graph;
+        this.grid = graph.getGrid();
+        int nodes = graph.getNodeCount();
+        gScore = new int[nodes];
+        parentNode = new int[nodes];
+        parentCorridor = new int[nodes];
+        gStamp = new int[nodes];
+        closedStamp = new int[nodes];
+        generation = 0;
+    }
+
+    // Nova consulta: os carimbos de geração invalidam g e fechados sem percorrer os arrays
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        prepare(maze);
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(gStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+        openSet.reset(graph.getNodeCount());
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        bestCost = INFINITY;
+        bestExit = -1;
+        goalCell = -1;
+        startCell = grid.index(start);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // A construção do grafo (primeira consulta no labirinto) não é interrompida; o token é
+    // visto depois dela e durante a busca
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        queries++;
+        if (token.isCancelled()) {
+            return SolveStats.interrupted(token, 0, -1, startNanos);
+        }
+        seed(grid.index(end));
+        int bestF = 0;
+        while (!openSet.isEmpty() && AStarIndexedSolver.fOf(openSet.peekKey()) < bestCost) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
+            bestF = AStarIndexedSolver.fOf(openSet.peekKey());
+            expand(openSet.pop());
+        }
+        buildSolution();
+        return SolveStats.finished(this, bestF, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (goalCell < 0) {
+            seed(grid.index(end));
+        }
+        if (openSet.isEmpty() || AStarIndexedSolver.fOf(openSet.peekKey()) >= bestCost) {
+            buildSolution();
+            return false;
+        }
+        int node = openSet.pop();
+        path.add(grid.toPoint(graph.nodeCell(node)));
+        expand(node);
+        return true;
+    }
+
+    // Liga o início aos nós vizinhos e registra o caminho direto quando início e fim
+    // estão no mesmo corredor
+    private void seed(int goal) {
+        goalCell = goal;
+        if (!grid.isOpen(startCell) || !grid.isOpen(goalCell)) {
+            return;
+        }
+        if (startCell == goalCell) {
+            bestCost = 0;
+            return;
+        }
+        int startNode = graph.cellNode(startCell);
+        if (startNode >= 0) {
+            relax(startNode, 0, -1, -1);
+        } else {
+            int corridor = graph.cellCorridor(startCell);
+            int offset = graph.cellOffset(startCell);
+            relax(graph.corridorA(corridor), offset, -1, corridor);
+            relax(graph.corridorB(corridor), graph.corridorLength(corridor) - offset, -1, corridor);
+            if (graph.cellCorridor(goalCell) == corridor) {
+                bestCost = Math.abs(graph.cellOffset(goalCell) - offset);
+                bestExit = -1;
+            }
+        }
+    }
+
+    private void expand(int node) {
+        nodesExpanded++;
+        closedStamp[node] = generation;
+        int g = gScore[node];
+
+        // O fim é um nó ou está em um corredor que sai deste nó
+        int goalNode = graph.cellNode(goalCell);
+        if (goalNode == node) {
+            offerExit(node, g);
+        } else if (goalNode < 0) {
+            int corridor = graph.cellCorridor(goalCell);
+            int offset = graph.cellOffset(goalCell);
+            if (graph.corridorA(corridor) == node) offerExit(node, g + offset);
+            if (graph.corridorB(corridor) == node) offerExit(node, g + graph.corridorLength(corridor) - offset);
+        }
+
+        for (int e = graph.edgeStart(node); e < graph.edgeEnd(node); e++) {
+            int target = graph.edgeTarget(e);
+            if (closedStamp[target] == generation) continue;
+            relax(target, g + graph.edgeWeight(e), node, graph.edgeCorridor(e));
+        }
+    }
+
+    private void relax(int node, int g, int parent, int corridor) {
+        if (gStamp[node] == generation && g >= gScore[node]) return;
+        gScore[node] = g;
+        gStamp[node] = generation;
+        parentNode[node] = parent;
+        parentCorridor[node] = corridor;
+        int f = g + grid.manhattan(graph.nodeCell(node), goalCell);
+        openSet.pushOrDecrease(node, AStarIndexedSolver.priority(f, g));
+    }
+
+    private void offerExit(int node, int cost) {
+        if (cost < bestCost) {
+            bestCost = cost;
+            bestExit = node;
+        }
+    }
+
+    // Expande a sequência de nós em células: trecho inicial, corredores e trecho final
+    private void buildSolution() {
+        solutionPath.clear();
+        if (bestCost == INFINITY) {
+            return;
+        }
+        List<Integer> cells = new ArrayList<>();
+        if (startCell == goalCell) {
+            cells.add(startCell);
+        } else if (bestExit < 0) {
+            // Início e fim no mesmo corredor, sem passar por nenhum nó
+            int corridor = graph.cellCorridor(startCell);
+            appendRun(cells, corridor, graph.cellOffset(startCell), graph.cellOffset(goalCell));
+        } else {
+            List<Integer> nodes = new ArrayList<>();
+            for (int n = bestExit; n != -1; n = parentNode[n]) {
+                nodes.add(n);
+            }
+            Collections.reverse(nodes);
+
+            int first = nodes.get(0);
+            if (graph.nodeCell(first) == startCell) {
+                cells.add(startCell);
+            } else {
+                // O custo de entrada diz para qual ponta do corredor o início seguiu
+                int corridor = graph.cellCorridor(startCell);
+                int offset = graph.cellOffset(startCell);
+                boolean towardA = graph.corridorA(corridor) == first
+                        && (graph.corridorB(corridor) != first || gScore[first] == offset);
+                appendRun(cells, corridor, offset, towardA ? 0 : graph.corridorLength(corridor));
+            }
+            for (int i = 1; i < nodes.size(); i++) {
+                int from = nodes.get(i - 1);
+                int to = nodes.get(i);
+                int corridor = parentCorridor[to];
+                int length = graph.corridorLength(corridor);
+                boolean fromA = graph.corridorA(corridor) == from;
+                appendRun(cells, corridor, fromA ? 1 : length - 1, fromA ? length : 0);
+            }
+            if (graph.nodeCell(bestExit) != goalCell) {
+                int corridor = graph.cellCorridor(goalCell);
+                int offset = graph.cellOffset(goalCell);
+                boolean viaA = graph.corridorA(corridor) == bestExit && bestCost - gScore[bestExit] == offset;
+                appendRun(cells, corridor, viaA ? 1 : graph.corridorLength(corridor) - 1, offset);
+            }
+        }
+        for (int cell : cells) {
+            solutionPath.add(grid.toPoint(cell));
+        }
+    }
+
+    // Células do corredor entre as posições "from" e "to", inclusive (0 e comprimento são as pontas)
+    private void appendRun(List<Integer> cells, int corridor, int from, int to) {
+        int step = to >= from ? 1 : -1;
+        for (int k = from; k != to + step; k += step) {
+            cells.add(cellAt(corridor, k));
+        }
+    }
+
+    private int cellAt(int corridor, int offset) {
+        if (offset == 0) return graph.nodeCell(graph.corridorA(corridor));
+        if (offset == graph.corridorLength(corridor)) return graph.nodeCell(graph.corridorB(corridor));
+        return graph.corridorCell(corridor, offset);
+    }
+
+    public MazeGraph getGraph() {
+        return graph;
+    }
+
+    public long getQueryCount() {
+        return queries;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
@@ -0,0 +1,122 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache LRU de campos de distância até um alvo. A chave é a identidade da matriz do labirinto
+// (a mesma referência, não o conteúdo) e a célula alvo. Os campos mais antigos são descartados
+// quando a soma dos tamanhos passa do orçamento de memória.
+public class DistanceFieldCache {
+
+    private static final class Key {
+        final int[][] maze;
+        final int goal;
+
+        Key(int[][] maze, int goal) {
+            this.maze = maze;
+            this.goal = goal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return maze == other.maze && goal == other.goal;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(maze) * 31 + goal;
+        }
+    }
+
+    private final long budgetBytes;
+    private final int parallelism;
+    private final LinkedHashMap<Key, int[]> fields = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesInUse;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DistanceFieldCache(long budgetBytes, int parallelism) {
+        this.budgetBytes = budgetBytes;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Campo de distâncias de todas as células até "goal" (-1 onde não há caminho). O vetor é
+    // compartilhado com o cache e não deve ser alterado
+    public int[] getField(int[][] maze, Point goal) {
+        return getField(maze, goal, CancellationToken.NONE);
+    }
+
+    // Igual, mas devolve null se o token interromper o cálculo; nada entra no cache nesse caso
+    public int[] getField(int[][] maze, Point goal, CancellationToken token) {
+        Key key = new Key(maze, goal.x * maze[0].length + goal.y);
+        synchronized (this) {
+            int[] field = fields.get(key);
+            if (field != null) {
+                hits++;
+                return field;
+            }
+            misses++;
+        }
+        // A BFS roda fora do lock; como o labirinto não tem direção, a BFS a partir do alvo
+        // é a BFS reversa
+        int[] field = new ParallelBfsSolver(parallelism).computeDistanceField(maze, goal, token);
+        if (field == null) {
+            return null;
+        }
+        synchronized (this) {
+            int[] existing = fields.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            fields.put(key, field);
+            bytesInUse += sizeOf(field);
+            evictToBudget(key);
+        }
+        return field;
+    }
+
+    // Remove os campos menos usados recentemente, sem nunca descartar o que acabou de entrar
+    private void evictToBudget(Key keep) {
+        Iterator<Map.Entry<Key, int[]>> it = fields.entrySet().iterator();
+        while (bytesInUse > budgetBytes && it.hasNext()) {
+            Map.Entry<Key, int[]> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            bytesInUse -= sizeOf(eldest.getValue());
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(int[] field) {
+        return (long) field.length * Integer.BYTES;
+    }
+
+    // Descarta os campos de um labirinto (por exemplo, depois de editar as paredes)
+    public synchronized void invalidate(int[][] maze) {
+        Iterator<Map.Entry<Key, int[]>> it = fields.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, int[]> entry = it.next();
+            if (entry.getKey().maze == maze) {
+                bytesInUse -= sizeOf(entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        fields.clear();
+        bytesInUse = 0;
+    }
+
+    public synchronized int size() { return fields.size(); }
+    public synchronized long getBytesInUse() { return bytesInUse; }
+    public long getBudgetBytes() { return budgetBytes; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+}
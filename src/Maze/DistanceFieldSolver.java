@@ -0,0 +1,126 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+// Responde consultas "qualquer início -> mesmo fim" com um campo de distâncias pré-calculado:
+// a partir do início basta descer sempre para um vizinho com distância uma unidade menor,
+// em O(tamanho do caminho). O campo vem de um DistanceFieldCache compartilhado.
+public class DistanceFieldSolver implements MazeSolver {
+
+    private final DistanceFieldCache cache;
+    private MazeGrid grid;
+    private int[] field;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private final int[] neighborBuffer = new int[4];
+    private int current;
+    private long nodesExpanded; // Células percorridas na descida
+
+    public DistanceFieldSolver() {
+        this(new DistanceFieldCache(256L * 1024 * 1024, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public DistanceFieldSolver(DistanceFieldCache cache) {
+        this.cache = cache;
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        this.field = null;
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        current = grid.index(start);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // Em um acerto do cache só há a descida; numa falta, a BFS do campo também respeita o token
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        if (!grid.isOpen(grid.index(end))) {
+            return SolveStats.finished(this, -1, startNanos);
+        }
+        field = cache.getField(maze, end, token);
+        if (field == null) {
+            return SolveStats.interrupted(token, 0, -1, startNanos);
+        }
+        if (field[current] < 0 || !grid.isOpen(current)) {
+            return SolveStats.finished(this, -1, startNanos);
+        }
+        solutionPath.add(grid.toPoint(current));
+        while (field[current] > 0) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                solutionPath.clear();
+                return SolveStats.interrupted(token, nodesExpanded, -1, startNanos);
+            }
+            current = downhill(current);
+            solutionPath.add(grid.toPoint(current));
+        }
+        return SolveStats.finished(this, field[grid.index(start)], startNanos);
+    }
+
+    // Na animação cada passo desce uma célula
+    @Override
+    public boolean step(Point end) {
+        if (field == null) {
+            if (!grid.isOpen(grid.index(end))) {
+                return false;
+            }
+            field = cache.getField(grid.getMaze(), end);
+            if (field[current] < 0 || !grid.isOpen(current)) {
+                return false;
+            }
+            path.add(grid.toPoint(current));
+            return true;
+        }
+        if (field[current] <= 0) {
+            solutionPath.clear();
+            solutionPath.addAll(path);
+            return false;
+        }
+        current = downhill(current);
+        path.add(grid.toPoint(current));
+        return true;
+    }
+
+    private int downhill(int cell) {
+        nodesExpanded++;
+        int count = grid.neighbors(cell, neighborBuffer);
+        for (int i = 0; i < count; i++) {
+            if (field[neighborBuffer[i]] == field[cell] - 1) {
+                return neighborBuffer[i];
+            }
+        }
+        throw new IllegalStateException("Campo de distâncias inconsistente com o labirinto");
+    }
+
+    public DistanceFieldCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
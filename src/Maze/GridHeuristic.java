@@ -0,0 +1,14 @@
+package Maze;
+
+// Estimativa da distância entre duas células (índices lineares). Precisa ser admissível e
+// consistente para que os solvers possam ignorar células já fechadas.
+@FunctionalInterface
+public interface GridHeuristic {
+
+    int estimate(int cell, int goal);
+
+    // Distância de Manhattan, a heurística padrão dos solvers
+    static GridHeuristic manhattan(MazeGrid grid) {
+        return grid::manhattan;
+    }
+}
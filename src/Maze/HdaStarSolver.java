@@ -0,0 +1,325 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A* paralelo com distribuição por hash (HDA*): cada worker é dono de uma partição
+// das células e mantém a própria lista aberta. Sucessores de outra partição são
+// enviados ao dono por caixas de mensagens sem lock (ConcurrentLinkedQueue).
+public class HdaStarSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int BLOCK_SHIFT = 3; // Blocos de 8x8 células vão para o mesmo dono
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private int[] gScore;   // Escrito apenas pelo dono da célula
+    private int[] cameFrom; // Escrito apenas pelo dono da célula
+    private int[] gStamp;   // Geração em que g/pai foram escritos; gerações antigas valem INFINITY
+    private int generation;
+    private Worker[] workers;
+    private int goal;
+    private int turn;
+    private long nodesExpanded;
+
+    // Incumbente: custo do melhor caminho até o fim encontrado até agora
+    private volatile int incumbent;
+    private volatile boolean done;
+    private volatile boolean interrupted;
+    private CancellationToken token = CancellationToken.NONE; // Consultado pelos workers
+    // Mensagens em trânsito + workers ocupados; quando chega a zero a busca terminou
+    private final AtomicLong pending = new AtomicLong();
+
+    private final int parallelism;
+
+    public HdaStarSolver(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.gScore = new int[0];
+        this.cameFrom = new int[0];
+        this.gStamp = new int[0];
+        this.workers = new Worker[this.parallelism];
+        for (int i = 0; i < this.parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        if (gScore.length < cells) {
+            gScore = new int[cells];
+            cameFrom = new int[cells];
+            gStamp = new int[cells];
+            generation = 0;
+        }
+        // Nada é preenchido: só a geração avança (os workers veem os arrays depois do submit)
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(gStamp, 0);
+            generation = 1;
+        }
+
+        path.clear();
+        solutionPath.clear();
+        for (Worker w : workers) {
+            w.reset();
+        }
+        incumbent = INFINITY;
+        done = false;
+        turn = 0;
+        nodesExpanded = 0;
+        goal = -1;
+
+        int startIdx = grid.index(start);
+        setG(startIdx, 0, -1);
+        workers[owner(startIdx)].openSet.push(startIdx, 0);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // Cada worker consulta o token no próprio laço; o primeiro que o vê encerra todos via "done"
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        setGoal(end);
+        this.token = token;
+        interrupted = false;
+        pending.set(parallelism); // Todos os workers começam ocupados
+
+        // Se um worker falhar, os outros saem por "done" e a exceção sai daqui
+        ForkJoinPool customPool = SolverExecutors.acquire(this.parallelism);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Worker w : workers) {
+                tasks.add(customPool.submit(w::run));
+            }
+            SolverExecutors.awaitAll(tasks, this::stopWorkers);
+        } finally {
+            this.token = CancellationToken.NONE;
+            SolverExecutors.release(customPool);
+        }
+
+        for (Worker w : workers) {
+            nodesExpanded += w.expanded;
+        }
+        if (interrupted) {
+            solutionPath.clear();
+            return SolveStats.interrupted(token, nodesExpanded, -1, startNanos);
+        }
+        finish();
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
+    // Execução passo a passo para a animação: os workers são simulados em rodízio na thread chamadora
+    @Override
+    public boolean step(Point end) {
+        setGoal(end);
+        for (int tries = 0; tries < parallelism; tries++) {
+            Worker w = workers[turn];
+            turn = (turn + 1) % parallelism;
+            w.drainMailbox();
+            int cell = w.expandNext();
+            if (cell >= 0) {
+                path.add(grid.toPoint(cell));
+                nodesExpanded++;
+                return true;
+            }
+        }
+        // Uma rodada completa sem trabalho: nenhuma mensagem nova pode ter surgido
+        finish();
+        return false;
+    }
+
+    // Chamado quando a thread que espera é interrompida ou um worker falha
+    private void stopWorkers() {
+        interrupted = true;
+        done = true;
+    }
+
+    private void setGoal(Point end) {
+        goal = grid.index(end);
+        if (g(goal) == 0) {
+            incumbent = 0; // O início já é o fim
+        }
+    }
+
+    private void finish() {
+        solutionPath.clear();
+        if (incumbent != INFINITY) {
+            grid.appendPath(cameFrom, goal, solutionPath);
+        }
+    }
+
+    private int g(int cell) {
+        return gStamp[cell] == generation ? gScore[cell] : INFINITY;
+    }
+
+    private void setG(int cell, int g, int parent) {
+        gScore[cell] = g;
+        cameFrom[cell] = parent;
+        gStamp[cell] = generation;
+    }
+
+    // Hash dos blocos de células: mantém vizinhos próximos no mesmo worker e
+    // espalha os blocos de forma uniforme entre as partições
+    private int owner(int cell) {
+        int block = (grid.row(cell) >>> BLOCK_SHIFT) * 0x9E3779B1 ^ (grid.col(cell) >>> BLOCK_SHIFT) * 0x85EBCA6B;
+        block ^= block >>> 15;
+        return (block & 0x7FFFFFFF) % parallelism;
+    }
+
+    private static final class Message {
+        final int cell;
+        final int parent;
+        final int g;
+
+        Message(int cell, int parent, int g) {
+            this.cell = cell;
+            this.parent = parent;
+            this.g = g;
+        }
+    }
+
+    private final class Worker {
+        final int id;
+        final IntMinHeap openSet = new IntMinHeap(1024);
+        final ConcurrentLinkedQueue<Message> mailbox = new ConcurrentLinkedQueue<>();
+        final int[] neighborBuffer = new int[4];
+        long expanded;
+
+        Worker(int id) {
+            this.id = id;
+        }
+
+        void reset() {
+            openSet.clear();
+            mailbox.clear();
+            expanded = 0;
+        }
+
+        void run() {
+            try {
+                search();
+            } catch (Throwable e) {
+                // Sem isso os outros workers esperariam para sempre por "pending"
+                done = true;
+                throw e;
+            }
+        }
+
+        private void search() {
+            boolean busy = true;
+            int spins = 0;
+            long iteration = 0;
+            while (true) {
+                if (token.shouldStop(++iteration)) {
+                    interrupted = true;
+                    done = true;
+                    return;
+                }
+                if (busy) {
+                    int drained = drainMailbox();
+                    if (drained > 0) {
+                        pending.addAndGet(-drained);
+                    }
+                    if (expandNext() >= 0) {
+                        continue;
+                    }
+                    // Sem trabalho útil: avisa uma única vez que ficou ocioso
+                    busy = false;
+                    if (pending.decrementAndGet() == 0) {
+                        done = true;
+                        return;
+                    }
+                }
+                if (done) {
+                    return;
+                }
+                if (!mailbox.isEmpty()) {
+                    // A mensagem pendente já conta em "pending", então ele nunca volta de zero
+                    pending.incrementAndGet();
+                    busy = true;
+                    spins = 0;
+                } else if (++spins < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        int drainMailbox() {
+            int count = 0;
+            Message m;
+            while ((m = mailbox.poll()) != null) {
+                relax(m.cell, m.g, m.parent);
+                count++;
+            }
+            return count;
+        }
+
+        // Expande a melhor célula local cujo f ainda é menor que o incumbente; -1 se não houver
+        int expandNext() {
+            while (!openSet.isEmpty() && openSet.peekKey() < incumbent) {
+                int f = openSet.peekKey();
+                int cell = openSet.pop();
+                int g = g(cell);
+                if (g + grid.manhattan(cell, goal) < f) {
+                    continue; // Entrada obsoleta: a célula já foi melhorada depois de inserida
+                }
+                expanded++;
+                int count = grid.neighbors(cell, neighborBuffer);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighborBuffer[i];
+                    int target = owner(neighbor);
+                    if (target == id) {
+                        relax(neighbor, g + 1, cell);
+                    } else {
+                        pending.incrementAndGet();
+                        workers[target].mailbox.offer(new Message(neighbor, cell, g + 1));
+                    }
+                }
+                return cell;
+            }
+            return -1;
+        }
+
+        void relax(int cell, int g, int parent) {
+            if (g >= g(cell) || g >= incumbent) {
+                return;
+            }
+            setG(cell, g, parent);
+            if (cell == goal) {
+                incumbent = g; // Só o dono do fim escreve o incumbente
+            } else {
+                openSet.push(cell, g + grid.manhattan(cell, goal));
+            }
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
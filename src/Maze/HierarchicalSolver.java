@@ -0,0 +1,458 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// A* hierárquico (HPA*): a grade é dividida em clusters de tamanho fixo. Toda célula livre na
+// borda de um cluster com vizinho livre no cluster ao lado é uma entrada, e as distâncias entre
+// as entradas de um mesmo cluster são pré-calculadas (um cluster por tarefa, em paralelo).
+// A consulta roda A* só sobre as entradas e depois refina apenas os trechos usados no caminho.
+// Como todas as passagens entre clusters são entradas, o caminho encontrado é ótimo.
+public class HierarchicalSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int clusterSize;
+    private final int parallelism;
+
+    private int[][] maze;
+    private MazeGrid grid;
+    private Cluster[] clusters;
+    private int clusterRows;
+    private int clusterCols;
+    private int nodeCount;
+    private int[] nodeCell;  // Célula de cada nó abstrato
+    private boolean anyDirty;
+    private long lastRebuildNanos;
+    private int lastRebuiltClusters;
+
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private IndexedMinHeap openSet;
+    private int[] gScore;
+    private int[] parentNode;  // -1 = ligado diretamente ao início
+    private long[] closed;
+    private int startCell;
+    private int goalCell;
+    private int bestCost;
+    private int bestExit;      // Último nó antes do fim (-1 = caminho direto dentro do cluster)
+    private int[] startDist;   // Distâncias dentro do cluster do início, a partir do início
+    private int[] goalDist;    // Distâncias dentro do cluster do fim, a partir do fim
+    private long nodesExpanded;
+
+    // Buffers de busca local, reaproveitados entre consultas
+    private final int[] localDist;
+    private final int[] localParent;
+    private final int[] localQueue;
+    private final int[] neighborBuffer = new int[4];
+
+    private static final class Cluster {
+        final int row0, col0, rows, cols;
+        int[] entrances = new int[0];  // Células de entrada em ordem crescente
+        int[] dist = new int[0];       // dist[i * k + j] entre as entradas i e j (-1 = sem caminho)
+        int nodeBase;
+        volatile boolean dirty = true;
+
+        Cluster(int row0, int col0, int rows, int cols) {
+            this.row0 = row0;
+            this.col0 = col0;
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        boolean contains(int r, int c) {
+            return r >= row0 && r < row0 + rows && c >= col0 && c < col0 + cols;
+        }
+    }
+
+    public HierarchicalSolver() {
+        this(16, Runtime.getRuntime().availableProcessors());
+    }
+
+    public HierarchicalSolver(int clusterSize, int parallelism) {
+        this.clusterSize = Math.max(2, clusterSize);
+        this.parallelism = Math.max(1, parallelism);
+        int area = this.clusterSize * this.clusterSize;
+        this.localDist = new int[area];
+        this.localParent = new int[area];
+        this.localQueue = new int[area];
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.openSet = new IndexedMinHeap(256);
+        this.gScore = new int[0];
+        this.parentNode = new int[0];
+        this.closed = new long[0];
+        this.startDist = new int[area];
+        this.goalDist = new int[area];
+    }
+
+    // Altera uma célula e invalida os clusters afetados; a abstração é refeita na próxima consulta
+    public void setCell(int row, int col, int value) {
+        maze[row][col] = value;
+        markDirty(row, col);
+    }
+
+    // Invalida o cluster da célula e, se ela estiver na borda, os clusters vizinhos a ela
+    public void markDirty(int row, int col) {
+        if (clusters == null) return;
+        markCluster(row, col);
+        markCluster(row - 1, col);
+        markCluster(row + 1, col);
+        markCluster(row, col - 1);
+        markCluster(row, col + 1);
+    }
+
+    private void markCluster(int row, int col) {
+        if (row < 0 || col < 0 || row >= grid.rows() || col >= grid.cols()) return;
+        clusters[clusterOf(row, col)].dirty = true;
+        anyDirty = true;
+    }
+
+    private int clusterOf(int row, int col) {
+        return (row / clusterSize) * clusterCols + col / clusterSize;
+    }
+
+    // Constrói a abstração para um labirinto novo, ou refaz apenas os clusters invalidados
+    public void prepare(int[][] maze) {
+        prepare(maze, CancellationToken.NONE);
+    }
+
+    // Devolve false se o token interrompeu a reconstrução; os clusters que faltaram continuam
+    // invalidados e são refeitos na próxima chamada
+    private boolean prepare(int[][] maze, CancellationToken token) {
+        if (this.maze != maze || clusters == null) {
+            this.maze = maze;
+            this.grid = new MazeGrid(maze);
+            clusterRows = (grid.rows() + clusterSize - 1) / clusterSize;
+            clusterCols = (grid.cols() + clusterSize - 1) / clusterSize;
+            clusters = new Cluster[clusterRows * clusterCols];
+            for (int cr = 0; cr < clusterRows; cr++) {
+                for (int cc = 0; cc < clusterCols; cc++) {
+                    int row0 = cr * clusterSize;
+                    int col0 = cc * clusterSize;
+                    clusters[cr * clusterCols + cc] = new Cluster(row0, col0,
+                            Math.min(clusterSize, grid.rows() - row0), Math.min(clusterSize, grid.cols() - col0));
+                }
+            }
+            anyDirty = true;
+        }
+        return !anyDirty || rebuildDirtyClusters(token);
+    }
+
+    private boolean rebuildDirtyClusters(CancellationToken token) {
+        long start = System.nanoTime();
+        int[] dirty = IntStream.range(0, clusters.length).filter(i -> clusters[i].dirty).toArray();
+
+        ForkJoinPool customPool = SolverExecutors.acquire(this.parallelism);
+        try {
+            // Um cluster leva microssegundos, então o token é visto antes de cada um
+            customPool.submit(() -> IntStream.of(dirty).parallel().forEach(i -> {
+                if (!token.isCancelled()) rebuildCluster(clusters[i]);
+            })).get();
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            SolverExecutors.release(customPool);
+        }
+        for (int i : dirty) {
+            if (clusters[i].dirty) return false;
+        }
+
+        // Renumera os nós abstratos: cada cluster ocupa um intervalo contíguo de ids
+        nodeCount = 0;
+        for (Cluster cluster : clusters) {
+            cluster.nodeBase = nodeCount;
+            nodeCount += cluster.entrances.length;
+        }
+        nodeCell = new int[nodeCount];
+        for (Cluster cluster : clusters) {
+            System.arraycopy(cluster.entrances, 0, nodeCell, cluster.nodeBase, cluster.entrances.length);
+        }
+        anyDirty = false;
+        lastRebuiltClusters = dirty.length;
+        lastRebuildNanos = System.nanoTime() - start;
+        return true;
+    }
+
+    private void rebuildCluster(Cluster cluster) {
+        int cols = grid.cols();
+        int[] found = new int[2 * (cluster.rows + cluster.cols)];
+        int k = 0;
+        for (int r = cluster.row0; r < cluster.row0 + cluster.rows; r++) {
+            for (int c = cluster.col0; c < cluster.col0 + cluster.cols; c++) {
+                boolean border = r == cluster.row0 || c == cluster.col0
+                        || r == cluster.row0 + cluster.rows - 1 || c == cluster.col0 + cluster.cols - 1;
+                if (border && maze[r][c] == 1 && opensOutside(cluster, r, c)) {
+                    found[k++] = r * cols + c;
+                }
+            }
+        }
+        int[] entrances = Arrays.copyOf(found, k);
+
+        // Uma BFS local por entrada preenche a sua linha da matriz de distâncias
+        int area = cluster.rows * cluster.cols;
+        int[] dist = new int[k * k];
+        int[] local = new int[area];
+        int[] queue = new int[area];
+        int[] parent = new int[area];
+        for (int i = 0; i < k; i++) {
+            bfsInCluster(cluster, entrances[i], local, parent, queue);
+            for (int j = 0; j < k; j++) {
+                dist[i * k + j] = local[localIndex(cluster, entrances[j])];
+            }
+        }
+        cluster.entrances = entrances;
+        cluster.dist = dist;
+        cluster.dirty = false;
+    }
+
+    private boolean opensOutside(Cluster cluster, int r, int c) {
+        return isOpenOutside(cluster, r - 1, c) || isOpenOutside(cluster, r + 1, c)
+                || isOpenOutside(cluster, r, c - 1) || isOpenOutside(cluster, r, c + 1);
+    }
+
+    private boolean isOpenOutside(Cluster cluster, int r, int c) {
+        return r >= 0 && c >= 0 && r < grid.rows() && c < grid.cols()
+                && !cluster.contains(r, c) && maze[r][c] == 1;
+    }
+
+    private int localIndex(Cluster cluster, int cell) {
+        return (grid.row(cell) - cluster.row0) * cluster.cols + grid.col(cell) - cluster.col0;
+    }
+
+    private int cellOfLocal(Cluster cluster, int local) {
+        return grid.index(cluster.row0 + local / cluster.cols, cluster.col0 + local % cluster.cols);
+    }
+
+    // BFS restrita ao cluster. Preenche dist (-1 = inalcançável) e parent por índice local
+    // e retorna quantas células foram expandidas
+    private int bfsInCluster(Cluster cluster, int source, int[] dist, int[] parent, int[] queue) {
+        int area = cluster.rows * cluster.cols;
+        Arrays.fill(dist, 0, area, -1);
+        int head = 0, tail = 0;
+        int s = localIndex(cluster, source);
+        dist[s] = 0;
+        parent[s] = -1;
+        queue[tail++] = s;
+        while (head < tail) {
+            int u = queue[head++];
+            int r = cluster.row0 + u / cluster.cols;
+            int c = cluster.col0 + u % cluster.cols;
+            tail = visitLocal(cluster, r + 1, c, u, dist, parent, queue, tail);
+            tail = visitLocal(cluster, r - 1, c, u, dist, parent, queue, tail);
+            tail = visitLocal(cluster, r, c + 1, u, dist, parent, queue, tail);
+            tail = visitLocal(cluster, r, c - 1, u, dist, parent, queue, tail);
+        }
+        return head;
+    }
+
+    private int visitLocal(Cluster cluster, int r, int c, int from, int[] dist, int[] parent, int[] queue, int tail) {
+        if (!cluster.contains(r, c) || maze[r][c] != 1) return tail;
+        int v = (r - cluster.row0) * cluster.cols + c - cluster.col0;
+        if (dist[v] >= 0) return tail;
+        dist[v] = dist[from] + 1;
+        parent[v] = from;
+        queue[tail++] = v;
+        return tail;
+    }
+
+    private Cluster clusterOfCell(int cell) {
+        return clusters[clusterOf(grid.row(cell), grid.col(cell))];
+    }
+
+    private int nodeOf(Cluster cluster, int cell) {
+        return cluster.nodeBase + Arrays.binarySearch(cluster.entrances, cell);
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        prepare(maze);
+        if (gScore.length < nodeCount) {
+            gScore = new int[nodeCount];
+            parentNode = new int[nodeCount];
+        }
+        int words = (nodeCount + 63) >>> 6;
+        if (closed.length < words) {
+            closed = new long[words];
+        } else {
+            Arrays.fill(closed, 0, words, 0L);
+        }
+        Arrays.fill(gScore, 0, nodeCount, INFINITY);
+        openSet.reset(nodeCount);
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        bestCost = INFINITY;
+        bestExit = -1;
+        goalCell = -1;
+        startCell = grid.index(start);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // A reconstrução dos clusters (a parte cara do primeiro solve) também respeita o token
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        if (!prepare(maze, token)) {
+            solutionPath.clear();
+            return SolveStats.interrupted(token, 0, -1, startNanos);
+        }
+        initialize(maze, start);
+        seed(grid.index(end));
+        int bestF = 0;
+        while (!openSet.isEmpty() && AStarIndexedSolver.fOf(openSet.peekKey()) < bestCost) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
+            bestF = AStarIndexedSolver.fOf(openSet.peekKey());
+            expand(openSet.pop());
+        }
+        refinePath();
+        return SolveStats.finished(this, bestF, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (goalCell < 0) {
+            seed(grid.index(end));
+        }
+        if (openSet.isEmpty() || AStarIndexedSolver.fOf(openSet.peekKey()) >= bestCost) {
+            refinePath();
+            return false;
+        }
+        int node = openSet.pop();
+        path.add(grid.toPoint(nodeCell[node]));
+        expand(node);
+        return true;
+    }
+
+    // Liga o início às entradas do seu cluster e o fim às entradas do cluster dele
+    private void seed(int goal) {
+        goalCell = goal;
+        if (!grid.isOpen(startCell) || !grid.isOpen(goalCell)) {
+            return;
+        }
+        Cluster startCluster = clusterOfCell(startCell);
+        Cluster goalCluster = clusterOfCell(goalCell);
+        nodesExpanded += bfsInCluster(startCluster, startCell, startDist, localParent, localQueue);
+        nodesExpanded += bfsInCluster(goalCluster, goalCell, goalDist, localParent, localQueue);
+
+        if (startCluster == goalCluster) {
+            int direct = startDist[localIndex(startCluster, goalCell)];
+            if (direct >= 0) {
+                bestCost = direct;
+            }
+        }
+        for (int i = 0; i < startCluster.entrances.length; i++) {
+            int d = startDist[localIndex(startCluster, startCluster.entrances[i])];
+            if (d >= 0) {
+                relax(startCluster.nodeBase + i, d, -1);
+            }
+        }
+    }
+
+    private void expand(int node) {
+        nodesExpanded++;
+        closed[node >>> 6] |= 1L << node;
+        int g = gScore[node];
+        int cell = nodeCell[node];
+        Cluster cluster = clusterOfCell(cell);
+        int k = cluster.entrances.length;
+        int i = node - cluster.nodeBase;
+
+        if (cluster.contains(grid.row(goalCell), grid.col(goalCell))) {
+            int d = goalDist[localIndex(cluster, cell)];
+            if (d >= 0 && g + d < bestCost) {
+                bestCost = g + d;
+                bestExit = node;
+            }
+        }
+
+        // Arestas internas: outras entradas do mesmo cluster
+        for (int j = 0; j < k; j++) {
+            int d = cluster.dist[i * k + j];
+            if (j == i || d < 0) continue;
+            int target = cluster.nodeBase + j;
+            if ((closed[target >>> 6] & (1L << target)) != 0) continue;
+            relax(target, g + d, node);
+        }
+        // Arestas externas: a célula vizinha em outro cluster também é uma entrada
+        int count = grid.neighbors(cell, neighborBuffer);
+        for (int n = 0; n < count; n++) {
+            int other = neighborBuffer[n];
+            Cluster otherCluster = clusterOfCell(other);
+            if (otherCluster == cluster) continue;
+            int target = nodeOf(otherCluster, other);
+            if ((closed[target >>> 6] & (1L << target)) != 0) continue;
+            relax(target, g + 1, node);
+        }
+    }
+
+    private void relax(int node, int g, int parent) {
+        if (g >= gScore[node]) return;
+        gScore[node] = g;
+        parentNode[node] = parent;
+        int f = g + grid.manhattan(nodeCell[node], goalCell);
+        openSet.pushOrDecrease(node, AStarIndexedSolver.priority(f, g));
+    }
+
+    // Refina só os trechos usados: cada par de pontos consecutivos no mesmo cluster
+    // vira uma BFS local; passagens entre clusters já são células vizinhas
+    private void refinePath() {
+        solutionPath.clear();
+        if (bestCost == INFINITY) {
+            return;
+        }
+        List<Integer> waypoints = new ArrayList<>();
+        waypoints.add(goalCell);
+        for (int n = bestExit; n != -1; n = parentNode[n]) {
+            waypoints.add(nodeCell[n]);
+        }
+        waypoints.add(startCell);
+        Collections.reverse(waypoints);
+
+        solutionPath.add(grid.toPoint(startCell));
+        for (int w = 1; w < waypoints.size(); w++) {
+            int from = waypoints.get(w - 1);
+            int to = waypoints.get(w);
+            if (from == to) continue;
+            Cluster cluster = clusterOfCell(from);
+            if (!cluster.contains(grid.row(to), grid.col(to))) {
+                solutionPath.add(grid.toPoint(to));
+                continue;
+            }
+            nodesExpanded += bfsInCluster(cluster, from, localDist, localParent, localQueue);
+            int segmentStart = solutionPath.size();
+            for (int v = localIndex(cluster, to); localParent[v] != -1; v = localParent[v]) {
+                solutionPath.add(grid.toPoint(cellOfLocal(cluster, v)));
+            }
+            Collections.reverse(solutionPath.subList(segmentStart, solutionPath.size()));
+        }
+    }
+
+    public int getClusterCount() { return clusters == null ? 0 : clusters.length; }
+    public int getAbstractNodeCount() { return nodeCount; }
+    public long getLastRebuildNanos() { return lastRebuildNanos; }
+    public int getLastRebuiltClusters() { return lastRebuiltClusters; }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
@@ -0,0 +1,115 @@
+package Maze;
+
+import java.util.Arrays;
+
+// Heap binária mínima indexada: cada item (célula) aparece no máximo uma vez e sua
+// posição é guardada em "positions", permitindo decrease-key em O(log n)
+public final class IndexedMinHeap {
+    private int[] heap;       // heap[i] = item na posição i
+    private long[] keys;      // keys[i] = chave do item na posição i
+    private int[] positions;  // positions[item] = posição na heap, ou -1 se fora dela
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[Math.max(16, capacity)];
+        this.keys = new long[heap.length];
+        this.positions = new int[0];
+    }
+
+    // Prepara a heap para itens no intervalo [0, itemCount). Itens retirados já têm posição -1,
+    // então basta limpar os que sobraram na heap: o custo é O(size), não O(itemCount)
+    public void reset(int itemCount) {
+        if (positions.length < itemCount) {
+            positions = new int[itemCount];
+            Arrays.fill(positions, -1);
+        } else {
+            for (int i = 0; i < size; i++) {
+                positions[heap[i]] = -1;
+            }
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public boolean contains(int item) { return positions[item] >= 0; }
+    public long peekKey() { return keys[0]; }
+    public int peek() { return heap[0]; }
+    // Item na posição i (0 <= i < size), para percorrer a heap sem alterá-la
+    public int itemAt(int i) { return heap[i]; }
+
+    // Insere o item ou diminui sua chave caso ele já esteja na heap
+    public void pushOrDecrease(int item, long key) {
+        int pos = positions[item];
+        if (pos < 0) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            siftUp(size++, item, key);
+        } else if (key < keys[pos]) {
+            siftUp(pos, item, key);
+        }
+    }
+
+    public int pop() {
+        int top = heap[0];
+        positions[top] = -1;
+        int last = heap[--size];
+        long lastKey = keys[size];
+        if (size > 0) {
+            siftDown(0, last, lastKey);
+        }
+        return top;
+    }
+
+    // Remove um item arbitrário (usado por buscas incrementais)
+    public void remove(int item) {
+        int pos = positions[item];
+        if (pos < 0) return;
+        positions[item] = -1;
+        int last = heap[--size];
+        long lastKey = keys[size];
+        if (pos == size) return;
+        if (pos > 0 && lastKey < keys[(pos - 1) >>> 1]) {
+            siftUp(pos, last, lastKey);
+        } else {
+            siftDown(pos, last, lastKey);
+        }
+    }
+
+    private void siftUp(int i, int item, long key) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            move(parent, i);
+            i = parent;
+        }
+        place(i, item, key);
+    }
+
+    private void siftDown(int i, int item, long key) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (key <= keys[child]) break;
+            move(child, i);
+            i = child;
+        }
+        place(i, item, key);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        positions[heap[to]] = to;
+    }
+
+    private void place(int i, int item, long key) {
+        heap[i] = item;
+        keys[i] = key;
+        positions[item] = i;
+    }
+}
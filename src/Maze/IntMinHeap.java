@@ -0,0 +1,61 @@
+package Maze;
+
+import java.util.Arrays;
+
+// Heap binária mínima de inteiros guardada em vetores primitivos (sem objetos Node)
+public final class IntMinHeap {
+    private int[] items;
+    private int[] keys;
+    private int size;
+
+    public IntMinHeap(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.items = new int[capacity];
+        this.keys = new int[capacity];
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public void clear() { size = 0; }
+
+    public int peekKey() { return keys[0]; }
+
+    public void push(int item, int key) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int i = size++;
+        // Sobe o elemento até a posição correta
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            items[i] = items[parent];
+            keys[i] = keys[parent];
+            i = parent;
+        }
+        items[i] = item;
+        keys[i] = key;
+    }
+
+    public int pop() {
+        int top = items[0];
+        int lastItem = items[--size];
+        int lastKey = keys[size];
+        int i = 0;
+        int half = size >>> 1;
+        // Desce o último elemento a partir da raiz
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (lastKey <= keys[child]) break;
+            items[i] = items[child];
+            keys[i] = keys[child];
+            i = child;
+        }
+        items[i] = lastItem;
+        keys[i] = lastKey;
+        return top;
+    }
+}
@@ -0,0 +1,222 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// A* no estilo Jump Point Search para labirintos: só bifurcações, becos sem saída, o início
+// e o fim entram na lista aberta. Os corredores (células com exatamente 2 vizinhos livres)
+// são percorridos direto, inclusive nas curvas, e viram uma única aresta com o seu comprimento.
+public class JumpPointSolver implements MazeSolver {
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private SearchWorkspace workspace; // g, ponto de salto anterior (pai), fechados e lista aberta
+    private IndexedMinHeap openSet;
+    private int[] firstStep; // Primeira célula do corredor que sai do pai até aqui (válida junto com g)
+    private final int[] neighborBuffer = new int[4];
+    private final int[] corridorBuffer = new int[4];
+    private int startIdx;
+    private long nodesExpanded;
+    private final GridHeuristic customHeuristic; // null = Manhattan
+    private GridHeuristic heuristic;
+    private long heapOperations;
+
+    // Resultado do último salto: célula onde o corredor terminou e seu comprimento
+    private int jumpTarget;
+    private int jumpLength;
+
+    public JumpPointSolver() {
+        this(null);
+    }
+
+    // Heurística usada para ordenar os pontos de salto na lista aberta
+    public JumpPointSolver(GridHeuristic heuristic) {
+        this.customHeuristic = heuristic;
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.firstStep = new int[0];
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        this.heuristic = customHeuristic != null ? customHeuristic : GridHeuristic.manhattan(grid);
+        int cells = grid.size();
+        if (firstStep.length < cells) {
+            firstStep = new int[cells];
+        }
+        if (workspace == null) {
+            workspace = SearchWorkspace.acquire();
+        }
+        workspace.begin(cells);
+        openSet = workspace.openSet();
+
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        heapOperations = 0;
+
+        startIdx = grid.index(start);
+        workspace.set(startIdx, 0, -1);
+        openSet.pushOrDecrease(startIdx, AStarIndexedSolver.priority(0, 0));
+        heapOperations++;
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (workspace == null || openSet.isEmpty()) {
+            releaseWorkspace();
+            return false;
+        }
+        int goal = grid.index(end);
+        int current = openSet.pop();
+        heapOperations++;
+        nodesExpanded++;
+        path.add(grid.toPoint(current));
+        if (current == goal) {
+            expandPath(goal, CancellationToken.NONE);
+            releaseWorkspace();
+            return false;
+        }
+        expandJumpPoint(current, goal);
+        return true;
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int goal = grid.index(end);
+        int bestF = 0;
+        while (!openSet.isEmpty()) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                releaseWorkspace();
+                return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+            }
+            bestF = AStarIndexedSolver.fOf(openSet.peekKey());
+            int current = openSet.pop();
+            heapOperations++;
+            nodesExpanded++;
+            if (current == goal) {
+                // Em corredores longos a expansão do caminho é uma parte grande do solve
+                if (!expandPath(goal, token)) {
+                    releaseWorkspace();
+                    return SolveStats.interrupted(token, nodesExpanded, bestF, startNanos);
+                }
+                break;
+            }
+            expandJumpPoint(current, goal);
+        }
+        releaseWorkspace();
+        return SolveStats.finished(this, bestF, startNanos);
+    }
+
+    private void expandJumpPoint(int current, int goal) {
+        workspace.close(current);
+        int count = grid.neighbors(current, neighborBuffer);
+        for (int i = 0; i < count; i++) {
+            int first = neighborBuffer[i];
+            if (!jump(current, first, goal)) continue;
+            int target = jumpTarget;
+            if (workspace.isClosed(target)) continue;
+            int tentativeG = workspace.g(current) + jumpLength;
+            if (tentativeG < workspace.g(target)) {
+                workspace.set(target, tentativeG, current);
+                firstStep[target] = first;
+                int f = tentativeG + heuristic.estimate(target, goal);
+                openSet.pushOrDecrease(target, AStarIndexedSolver.priority(f, tentativeG));
+                heapOperations++;
+            }
+        }
+    }
+
+    // Segue o corredor que começa em "first" até um ponto de salto. Retorna false se o
+    // corredor voltar para a origem (um anel sem bifurcações)
+    private boolean jump(int origin, int first, int goal) {
+        int prev = origin;
+        int cur = first;
+        int length = 1;
+        while (cur != goal && cur != origin) {
+            int count = grid.neighbors(cur, corridorBuffer);
+            if (count != 2) break;
+            int next = corridorBuffer[0] == prev ? corridorBuffer[1] : corridorBuffer[0];
+            prev = cur;
+            cur = next;
+            length++;
+        }
+        if (cur == origin) {
+            return false;
+        }
+        jumpTarget = cur;
+        jumpLength = length;
+        return true;
+    }
+
+    // Transforma a sequência de pontos de salto no caminho completo, célula por célula
+    // Devolve false (sem caminho) se o token interromper
+    private boolean expandPath(int goal, CancellationToken token) {
+        solutionPath.clear();
+        List<Point> reversed = new ArrayList<>();
+        int node = goal;
+        long segments = 0;
+        while (node != startIdx) {
+            if (token.shouldStop(++segments)) {
+                return false;
+            }
+            int from = workspace.parents()[node];
+            // Percorre o corredor de trás para frente a partir de "node" até chegar em "from"
+            List<Point> segment = new ArrayList<>();
+            int prev = from;
+            int cur = firstStep[node];
+            while (cur != node) {
+                segment.add(grid.toPoint(cur));
+                int next = grid.nextInCorridor(prev, cur, corridorBuffer);
+                prev = cur;
+                cur = next;
+            }
+            reversed.add(grid.toPoint(node));
+            for (int i = segment.size() - 1; i >= 0; i--) {
+                reversed.add(segment.get(i));
+            }
+            node = from;
+        }
+        reversed.add(grid.toPoint(startIdx));
+        Collections.reverse(reversed);
+        solutionPath.addAll(reversed);
+        return true;
+    }
+
+    // Devolve o workspace ao pool quando a busca termina
+    private void releaseWorkspace() {
+        if (workspace != null) {
+            workspace.release();
+            workspace = null;
+        }
+    }
+
+    // Inserções, decrease-keys e remoções na lista aberta durante a última busca
+    public long getHeapOperations() {
+        return heapOperations;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
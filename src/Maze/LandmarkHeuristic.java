@@ -0,0 +1,118 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+// Heurística ALT: para K células de referência (landmarks) guarda a distância exata até todas
+// as células do labirinto. Pela desigualdade triangular, |d(L, fim) - d(L, célula)| nunca passa
+// da distância real, e o maior valor entre os landmarks é bem mais justo que Manhattan.
+// Vale para um labirinto fixo: se as paredes mudarem, as tabelas precisam ser refeitas.
+public final class LandmarkHeuristic implements GridHeuristic {
+
+    private final int[][] maze;
+    private final MazeGrid grid;
+    private final int[] landmarks;
+    // Tabelas em short quando todas as distâncias cabem (-1 = inalcançável), senão em int
+    private final short[][] shortTables;
+    private final int[][] intTables;
+    private final long buildNanos;
+
+    private LandmarkHeuristic(int[][] maze, int[] landmarks, short[][] shortTables, int[][] intTables, long buildNanos) {
+        this.maze = maze;
+        this.grid = new MazeGrid(maze);
+        this.landmarks = landmarks;
+        this.shortTables = shortTables;
+        this.intTables = intTables;
+        this.buildNanos = buildNanos;
+    }
+
+    // Escolhe os landmarks por "ponto mais distante": cada novo landmark é a célula alcançável
+    // mais longe de todos os já escolhidos. Cada tabela é uma BFS paralela completa.
+    public static LandmarkHeuristic build(int[][] maze, int count, int parallelism) {
+        long start = System.nanoTime();
+        MazeGrid grid = new MazeGrid(maze);
+        ParallelBfsSolver bfs = new ParallelBfsSolver(parallelism);
+
+        int first = -1;
+        for (int i = 0; i < grid.size() && first < 0; i++) {
+            if (grid.isOpen(i)) first = i;
+        }
+        if (first < 0 || count <= 0) {
+            return new LandmarkHeuristic(maze, new int[0], new short[0][], null, System.nanoTime() - start);
+        }
+
+        // A célula mais longe de uma célula qualquer fica na "ponta" do labirinto
+        int[] minDistance = bfs.computeDistanceField(maze, grid.toPoint(first));
+        int[] landmarks = new int[count];
+        int[][] tables = new int[count][];
+        int chosen = 0;
+        while (chosen < count) {
+            int next = argMax(minDistance);
+            if (next < 0 || (chosen > 0 && minDistance[next] == 0)) break;
+            landmarks[chosen] = next;
+            tables[chosen] = bfs.computeDistanceField(maze, grid.toPoint(next));
+            if (chosen == 0) {
+                minDistance = tables[0].clone();
+            } else {
+                int[] table = tables[chosen];
+                for (int i = 0; i < minDistance.length; i++) {
+                    if (table[i] >= 0 && table[i] < minDistance[i]) minDistance[i] = table[i];
+                }
+            }
+            chosen++;
+        }
+        landmarks = Arrays.copyOf(landmarks, chosen);
+
+        int max = 0;
+        for (int l = 0; l < chosen; l++) {
+            for (int d : tables[l]) max = Math.max(max, d);
+        }
+        if (max < Short.MAX_VALUE) {
+            short[][] compact = new short[chosen][];
+            for (int l = 0; l < chosen; l++) {
+                int[] table = tables[l];
+                short[] packed = new short[table.length];
+                for (int i = 0; i < table.length; i++) packed[i] = (short) table[i];
+                compact[l] = packed;
+            }
+            return new LandmarkHeuristic(maze, landmarks, compact, null, System.nanoTime() - start);
+        }
+        return new LandmarkHeuristic(maze, landmarks, null, Arrays.copyOf(tables, chosen), System.nanoTime() - start);
+    }
+
+    private static int argMax(int[] values) {
+        int best = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= 0 && (best < 0 || values[i] > values[best])) best = i;
+        }
+        return best;
+    }
+
+    private int distance(int landmark, int cell) {
+        return shortTables != null ? shortTables[landmark][cell] : intTables[landmark][cell];
+    }
+
+    @Override
+    public int estimate(int cell, int goal) {
+        int best = grid.manhattan(cell, goal);
+        for (int l = 0; l < landmarks.length; l++) {
+            int dc = distance(l, cell);
+            int dg = distance(l, goal);
+            // Landmark em outra componente conexa não diz nada sobre este par
+            if (dc < 0 || dg < 0) continue;
+            int bound = Math.abs(dg - dc);
+            if (bound > best) best = bound;
+        }
+        return best;
+    }
+
+    public int[][] getMaze() { return maze; }
+    public int getLandmarkCount() { return landmarks.length; }
+    public Point getLandmark(int i) { return grid.toPoint(landmarks[i]); }
+    public long getBuildNanos() { return buildNanos; }
+
+    // Bytes ocupados pelas tabelas de distância
+    public long getTableBytes() {
+        return (long) landmarks.length * grid.size() * (shortTables != null ? Short.BYTES : Integer.BYTES);
+    }
+}
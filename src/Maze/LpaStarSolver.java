@@ -0,0 +1,287 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+
+// LPA* (Lifelong Planning A*): mantém g e rhs de cada célula entre as chamadas. Quando uma
+// parede abre ou fecha, só as células cuja distância muda voltam para a lista aberta, e o
+// caminho é reparado sem refazer a busca inteira. Início e fim ficam fixos entre as edições.
+public class LpaStarSolver implements MazeSolver {
+
+    // Metade do máximo para que g + 1 e g + h nunca estourem
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private int[][] maze;
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private IndexedMinHeap openSet;
+    private int[] g;
+    private int[] rhs;
+    private int[] stamp;   // Geração em que g/rhs da célula foram escritos; antes disso valem INFINITY
+    private int generation;
+    private final int[] neighborBuffer = new int[4];
+    private final int[] updateBuffer = new int[4];
+    private final int[] changedBuffer = new int[4]; // Vizinhos da célula alterada; updateVertex usa updateBuffer
+    private int startIdx;
+    private int goalIdx = -1;
+    private long nodesExpanded;    // Células expandidas no último reparo (ou busca inicial)
+    private long totalExpanded;    // Acumulado desde o initialize
+    private long lastRepairNanos;
+
+    public LpaStarSolver() {
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.openSet = new IndexedMinHeap(1024);
+        this.g = new int[0];
+        this.rhs = new int[0];
+        this.stamp = new int[0];
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.maze = maze;
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        if (g.length < cells) {
+            g = new int[cells];
+            rhs = new int[cells];
+            stamp = new int[cells];
+            generation = 0;
+        }
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        openSet.reset(cells);
+        path.clear();
+        solutionPath.clear();
+        nodesExpanded = 0;
+        totalExpanded = 0;
+        goalIdx = -1;
+
+        startIdx = grid.index(start);
+        if (grid.isOpen(startIdx)) {
+            setRhs(startIdx, 0);
+            openSet.pushOrDecrease(startIdx, key(startIdx));
+        }
+    }
+
+    // Reaproveita o estado se labirinto, início e fim forem os mesmos da chamada anterior
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // Um reparo interrompido deixa o estado consistente: o próximo solve continua de onde parou
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        if (maze != this.maze || grid.index(start) != startIdx || goalIdx < 0 || grid.index(end) != goalIdx) {
+            initialize(maze, start);
+            setGoal(grid.index(end));
+        }
+        if (!repair(token)) {
+            solutionPath.clear();
+            return SolveStats.interrupted(token, nodesExpanded, -1, startNanos);
+        }
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        if (goalIdx < 0) {
+            setGoal(grid.index(end));
+        }
+        if (!needsExpansion()) {
+            buildPath();
+            return false;
+        }
+        int u = openSet.peek();
+        path.add(grid.toPoint(u));
+        expand();
+        return true;
+    }
+
+    // A chave do início foi calculada sem heurística; recalcula agora que o fim é conhecido
+    private void setGoal(int goal) {
+        goalIdx = goal;
+        if (openSet.contains(startIdx)) {
+            openSet.remove(startIdx);
+            openSet.pushOrDecrease(startIdx, key(startIdx));
+        }
+    }
+
+    // Abre ou fecha a célula e devolve o caminho reparado
+    public List<Point> toggleCell(int row, int col) {
+        setCell(row, col, maze[row][col] == 1 ? 0 : 1);
+        return solutionPath;
+    }
+
+    public void setCell(int row, int col, int value) {
+        maze[row][col] = value;
+        cellChanged(row, col);
+        repair();
+    }
+
+    // Avisa que a célula foi alterada diretamente na matriz; o reparo acontece no próximo solve
+    public void cellChanged(int row, int col) {
+        int cell = grid.index(row, col);
+        updateVertex(cell);
+        // As arestas da célula mudaram, então o rhs dos vizinhos também
+        int count = grid.neighbors(cell, changedBuffer);
+        for (int i = 0; i < count; i++) {
+            updateVertex(changedBuffer[i]);
+        }
+    }
+
+    private void repair() {
+        repair(CancellationToken.NONE);
+    }
+
+    // Devolve false se o token interrompeu o reparo
+    private boolean repair(CancellationToken token) {
+        long start = System.nanoTime();
+        nodesExpanded = 0;
+        while (needsExpansion()) {
+            if (token.shouldStop(nodesExpanded + 1)) {
+                lastRepairNanos = System.nanoTime() - start;
+                return false;
+            }
+            expand();
+        }
+        buildPath();
+        lastRepairNanos = System.nanoTime() - start;
+        return true;
+    }
+
+    private boolean needsExpansion() {
+        return !openSet.isEmpty()
+                && (openSet.peekKey() < key(goalIdx) || rhs(goalIdx) != g(goalIdx));
+    }
+
+    private void expand() {
+        int u = openSet.pop();
+        nodesExpanded++;
+        totalExpanded++;
+        int count = grid.neighbors(u, neighborBuffer);
+        if (g(u) > rhs(u)) {
+            // Sobreconsistente: a distância diminuiu e se propaga para os vizinhos
+            setG(u, rhs(u));
+        } else {
+            // Subconsistente: a distância aumentou, a célula é reavaliada junto com os vizinhos
+            setG(u, INFINITY);
+            updateVertex(u);
+        }
+        for (int i = 0; i < count; i++) {
+            updateVertex(neighborBuffer[i]);
+        }
+    }
+
+    // Recalcula rhs a partir dos vizinhos e recoloca a célula na lista aberta se g != rhs
+    private void updateVertex(int u) {
+        if (u == startIdx) {
+            setRhs(u, grid.isOpen(u) ? 0 : INFINITY);
+        } else if (!grid.isOpen(u)) {
+            setRhs(u, INFINITY);
+        } else {
+            int best = INFINITY;
+            int count = grid.neighbors(u, updateBuffer);
+            for (int i = 0; i < count; i++) {
+                int v = updateBuffer[i];
+                if (g(v) < INFINITY && g(v) + 1 < best) best = g(v) + 1;
+            }
+            setRhs(u, best);
+        }
+        openSet.remove(u);
+        if (g(u) != rhs(u)) {
+            openSet.pushOrDecrease(u, key(u));
+        }
+    }
+
+    private int g(int u) {
+        return stamp[u] == generation ? g[u] : INFINITY;
+    }
+
+    private int rhs(int u) {
+        return stamp[u] == generation ? rhs[u] : INFINITY;
+    }
+
+    // A primeira escrita da geração começa a célula com g = rhs = INFINITY
+    private void touch(int u) {
+        if (stamp[u] != generation) {
+            stamp[u] = generation;
+            g[u] = INFINITY;
+            rhs[u] = INFINITY;
+        }
+    }
+
+    private void setG(int u, int value) {
+        touch(u);
+        g[u] = value;
+    }
+
+    private void setRhs(int u, int value) {
+        touch(u);
+        rhs[u] = value;
+    }
+
+    // Chave [min(g, rhs) + h; min(g, rhs)] comparada em ordem lexicográfica
+    private long key(int u) {
+        int m = Math.min(g(u), rhs(u));
+        int h = goalIdx < 0 ? 0 : grid.manhattan(u, goalIdx);
+        return ((long) (m + h) << 32) | m;
+    }
+
+    // Desce do fim até o início sempre pelo vizinho com g uma unidade menor
+    private void buildPath() {
+        solutionPath.clear();
+        if (goalIdx < 0 || g(goalIdx) >= INFINITY || !grid.isOpen(goalIdx)) {
+            return;
+        }
+        List<Point> reversed = new ArrayList<>();
+        int cur = goalIdx;
+        reversed.add(grid.toPoint(cur));
+        while (cur != startIdx) {
+            int count = grid.neighbors(cur, neighborBuffer);
+            int next = -1;
+            for (int i = 0; i < count; i++) {
+                int v = neighborBuffer[i];
+                if (g(v) == g(cur) - 1) {
+                    next = v;
+                    break;
+                }
+            }
+            if (next < 0) {
+                return;
+            }
+            cur = next;
+            reversed.add(grid.toPoint(cur));
+        }
+        Collections.reverse(reversed);
+        solutionPath.addAll(reversed);
+    }
+
+    public long getLastRepairNanos() {
+        return lastRepairNanos;
+    }
+
+    public long getTotalExpanded() {
+        return totalExpanded;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
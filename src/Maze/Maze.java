@@ -10,10 +10,21 @@ public class Maze {
     private Point start, end;
     private Stack<Point> stack;
     private Boolean isDone;
+    private final Random rand;
 
     public Maze(int rows, int cols) {
+        this(rows, cols, new Random());
+    }
+
+    // Mesma semente, mesmo labirinto (para repetir um benchmark)
+    public Maze(int rows, int cols, long seed) {
+        this(rows, cols, new Random(seed));
+    }
+
+    private Maze(int rows, int cols, Random rand) {
         this.rows = rows;
         this.cols = cols;
+        this.rand = rand;
         resetMaze();
 
     }
@@ -82,7 +93,6 @@ public class Maze {
 
     // Função auxiliar para aleatorizar as direções de geração
     private void shuffleArray(int[][] array) {
-        Random rand = new Random();
         for (int i = array.length - 1; i > 0; i--) {
             int j = rand.nextInt(i + 1);
             int[] temp = array[i];
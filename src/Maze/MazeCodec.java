@@ -0,0 +1,48 @@
+package Maze;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// Labirinto em binário: linhas e colunas (2 ints) seguidos de 1 bit por célula em ordem de
+// linha (1 = caminho), 8 células por byte. Um labirinto 1001x1001 ocupa ~125 KB em vez de 4 MB.
+public final class MazeCodec {
+
+    private static final int MAX_CELLS = 1 << 26; // Limite contra cabeçalhos corrompidos
+
+    private MazeCodec() {
+    }
+
+    public static void write(int[][] maze, DataOutput out) throws IOException {
+        int rows = maze.length;
+        int cols = rows == 0 ? 0 : maze[0].length;
+        out.writeInt(rows);
+        out.writeInt(cols);
+        byte[] bits = new byte[(rows * cols + 7) / 8];
+        int cell = 0;
+        for (int[] row : maze) {
+            for (int c = 0; c < cols; c++, cell++) {
+                if (row[c] == 1) bits[cell >>> 3] |= (byte) (1 << (cell & 7));
+            }
+        }
+        out.write(bits);
+    }
+
+    public static int[][] read(DataInput in) throws IOException {
+        int rows = in.readInt();
+        int cols = in.readInt();
+        if (rows < 0 || cols < 0 || (long) rows * cols > MAX_CELLS) {
+            throw new IOException("Dimensões de labirinto inválidas: " + rows + "x" + cols);
+        }
+        byte[] bits = new byte[(rows * cols + 7) / 8];
+        in.readFully(bits);
+        int[][] maze = new int[rows][cols];
+        int cell = 0;
+        for (int[] row : maze) {
+            for (int c = 0; c < cols; c++, cell++) {
+                row[c] = (bits[cell >>> 3] >> (cell & 7)) & 1;
+            }
+        }
+        return maze;
+    }
+}
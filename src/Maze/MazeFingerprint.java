@@ -0,0 +1,58 @@
+package Maze;
+
+// Hash de 64 bits do conteúdo do labirinto. Cada linha é empacotada em palavras de 64 células
+// (1 bit por célula) e as palavras são misturadas com multiplicações e rotações, no estilo
+// dos hashes rápidos não criptográficos. Labirintos iguais têm sempre o mesmo fingerprint.
+public final class MazeFingerprint {
+
+    private static final long P1 = 0x9E3779B97F4A7C15L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+
+    private MazeFingerprint() {
+    }
+
+    public static long of(int[][] maze) {
+        int rows = maze.length;
+        return of(rows, rows == 0 ? 0 : maze[0].length, pack(maze));
+    }
+
+    // Linhas empacotadas, ceil(cols / 64) palavras por linha: comparar dois labirintos por elas
+    // custa 1/64 de comparar as matrizes
+    public static long[] pack(int[][] maze) {
+        int cols = maze.length == 0 ? 0 : maze[0].length;
+        int wordsPerRow = (cols + 63) >>> 6;
+        long[] packed = new long[maze.length * wordsPerRow];
+        int w = 0;
+        for (int[] row : maze) {
+            for (int c = 0; c < cols; c++) {
+                if (row[c] == 1) packed[w + (c >>> 6)] |= 1L << c;
+            }
+            w += wordsPerRow;
+        }
+        return packed;
+    }
+
+    // Mesmo valor de of(maze) a partir das linhas já empacotadas
+    public static long of(int rows, int cols, long[] packed) {
+        long h = P1 ^ ((long) rows << 32 | cols);
+        for (long word : packed) {
+            h = mix(h, word);
+        }
+        return finish(h);
+    }
+
+    private static long mix(long h, long word) {
+        h ^= Long.rotateLeft(word * P2, 31) * P1;
+        return Long.rotateLeft(h, 27) * P1 + 0x52DCE729L;
+    }
+
+    // Avalanche final (fmix64 do MurmurHash3)
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
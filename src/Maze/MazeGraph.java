@@ -0,0 +1,193 @@
+package Maze;
+
+import java.util.Arrays;
+
+// Labirinto compilado em um grafo de bifurcações e becos sem saída (formato CSR). Cada
+// corredor entre dois nós vira uma aresta com o seu comprimento, e um índice lateral guarda
+// para toda célula de corredor qual é o corredor e a sua posição (offset) dentro dele.
+public final class MazeGraph {
+
+    private final int[][] maze;
+    private final MazeGrid grid;
+
+    private int nodeCount;
+    private int[] nodeCell;   // Célula de cada nó
+    private int[] cellNode;   // Nó de cada célula, ou -1
+
+    private int corridorCount;
+    private int[] corridorA;          // Nó em que o corredor começa
+    private int[] corridorB;          // Nó em que o corredor termina
+    private int[] corridorLength;     // Passos de A até B
+    private int[] corridorCellStart;  // Células internas em corridorCells[start, start + length - 1)
+    private int[] corridorCells;
+    private int[] cellCorridor;       // Corredor de cada célula interna, ou -1
+    private int[] cellOffset;         // Distância da célula até o nó A do seu corredor
+    private int cellCount;
+
+    private int[] edgeStart;  // Arestas do nó n em [edgeStart[n], edgeStart[n + 1])
+    private int[] edgeTarget;
+    private int[] edgeWeight;
+    private int[] edgeCorridor;
+
+    private long buildNanos;
+
+    private MazeGraph(int[][] maze) {
+        this.maze = maze;
+        this.grid = new MazeGrid(maze);
+    }
+
+    public static MazeGraph build(int[][] maze) {
+        long start = System.nanoTime();
+        MazeGraph graph = new MazeGraph(maze);
+        graph.contract();
+        graph.buildNanos = System.nanoTime() - start;
+        return graph;
+    }
+
+    private void contract() {
+        int cells = grid.size();
+        int[] neighbors = new int[4];
+
+        cellNode = new int[cells];
+        cellCorridor = new int[cells];
+        cellOffset = new int[cells];
+        Arrays.fill(cellNode, -1);
+        Arrays.fill(cellCorridor, -1);
+
+        // Nós: toda célula livre que não é meio de corredor
+        nodeCell = new int[16];
+        for (int i = 0; i < cells; i++) {
+            if (grid.isOpen(i) && grid.degree(i) != 2) {
+                addNode(i);
+            }
+        }
+
+        corridorA = new int[16];
+        corridorB = new int[16];
+        corridorLength = new int[16];
+        corridorCellStart = new int[16];
+        corridorCells = new int[Math.max(16, cells / 2)];
+
+        for (int n = 0; n < nodeCount; n++) {
+            walkCorridors(n, neighbors);
+        }
+        // Anéis sem nenhuma bifurcação: uma das células vira um nó artificial
+        for (int i = 0; i < cells; i++) {
+            if (grid.isOpen(i) && cellNode[i] < 0 && cellCorridor[i] < 0) {
+                addNode(i);
+                walkCorridors(nodeCount - 1, neighbors);
+            }
+        }
+
+        buildEdges();
+    }
+
+    // Percorre cada corredor que sai do nó n e ainda não foi registrado pelo nó do outro lado
+    private void walkCorridors(int n, int[] neighbors) {
+        int u = nodeCell[n];
+        int[] walkBuffer = new int[4];
+        int count = grid.neighbors(u, neighbors);
+        for (int k = 0; k < count; k++) {
+            int first = neighbors[k];
+            if (cellCorridor[first] >= 0) continue;  // Já percorrido a partir do outro lado
+            int other = cellNode[first];
+            if (other >= 0 && other < n) continue;    // Aresta direta já criada pelo outro nó
+
+            int corridor = corridorCount++;
+            ensureCorridorCapacity(corridorCount);
+            corridorA[corridor] = n;
+            corridorCellStart[corridor] = cellCount;
+
+            int prev = u;
+            int cur = first;
+            int length = 1;
+            while (cellNode[cur] < 0) {
+                if (cellCount == corridorCells.length) {
+                    corridorCells = Arrays.copyOf(corridorCells, cellCount * 2);
+                }
+                corridorCells[cellCount++] = cur;
+                cellCorridor[cur] = corridor;
+                cellOffset[cur] = length;
+                int next = grid.nextInCorridor(prev, cur, walkBuffer);
+                prev = cur;
+                cur = next;
+                length++;
+            }
+            corridorB[corridor] = cellNode[cur];
+            corridorLength[corridor] = length;
+        }
+    }
+
+    private void addNode(int cell) {
+        if (nodeCount == nodeCell.length) {
+            nodeCell = Arrays.copyOf(nodeCell, nodeCount * 2);
+        }
+        cellNode[cell] = nodeCount;
+        nodeCell[nodeCount++] = cell;
+    }
+
+    private void ensureCorridorCapacity(int capacity) {
+        if (capacity > corridorA.length) {
+            int size = Math.max(capacity, corridorA.length * 2);
+            corridorA = Arrays.copyOf(corridorA, size);
+            corridorB = Arrays.copyOf(corridorB, size);
+            corridorLength = Arrays.copyOf(corridorLength, size);
+            corridorCellStart = Arrays.copyOf(corridorCellStart, size);
+        }
+    }
+
+    // Cada corredor (exceto anéis de um nó só) vira duas arestas dirigidas
+    private void buildEdges() {
+        edgeStart = new int[nodeCount + 1];
+        for (int c = 0; c < corridorCount; c++) {
+            if (corridorA[c] == corridorB[c]) continue;
+            edgeStart[corridorA[c] + 1]++;
+            edgeStart[corridorB[c] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            edgeStart[n + 1] += edgeStart[n];
+        }
+        int edges = edgeStart[nodeCount];
+        edgeTarget = new int[edges];
+        edgeWeight = new int[edges];
+        edgeCorridor = new int[edges];
+        int[] fill = Arrays.copyOf(edgeStart, nodeCount);
+        for (int c = 0; c < corridorCount; c++) {
+            int a = corridorA[c], b = corridorB[c];
+            if (a == b) continue;
+            int e = fill[a]++;
+            edgeTarget[e] = b;
+            edgeWeight[e] = corridorLength[c];
+            edgeCorridor[e] = c;
+            e = fill[b]++;
+            edgeTarget[e] = a;
+            edgeWeight[e] = corridorLength[c];
+            edgeCorridor[e] = c;
+        }
+    }
+
+    // Célula interna do corredor na posição "offset" (1 até comprimento - 1)
+    public int corridorCell(int corridor, int offset) {
+        return corridorCells[corridorCellStart[corridor] + offset - 1];
+    }
+
+    public int[][] getMaze() { return maze; }
+    public MazeGrid getGrid() { return grid; }
+    public int getNodeCount() { return nodeCount; }
+    public int getCorridorCount() { return corridorCount; }
+    public int getEdgeCount() { return edgeStart[nodeCount]; }
+    public long getBuildNanos() { return buildNanos; }
+
+    public int nodeCell(int node) { return nodeCell[node]; }
+    public int cellNode(int cell) { return cellNode[cell]; }
+    public int cellCorridor(int cell) { return cellCorridor[cell]; }
+    public int cellOffset(int cell) { return cellOffset[cell]; }
+    public int corridorA(int corridor) { return corridorA[corridor]; }
+    public int corridorB(int corridor) { return corridorB[corridor]; }
+    public int corridorLength(int corridor) { return corridorLength[corridor]; }
+    public int edgeStart(int node) { return edgeStart[node]; }
+    public int edgeEnd(int node) { return edgeStart[node + 1]; }
+    public int edgeTarget(int edge) { return edgeTarget[edge]; }
+    public int edgeWeight(int edge) { return edgeWeight[edge]; }
+    public int edgeCorridor(int edge) { return edgeCorridor[edge]; }
+}
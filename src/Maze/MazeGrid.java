@@ -0,0 +1,100 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.List;
+
+// Visão linear da matriz do labirinto: cada célula vira o índice (linha * colunas + coluna)
+// Não copia a matriz, apenas a consulta diretamente
+public final class MazeGrid {
+    private final int[][] maze;
+    private final int rows;
+    private final int cols;
+
+    public MazeGrid(int[][] maze) {
+        this.maze = maze;
+        this.rows = maze.length;
+        this.cols = rows == 0 ? 0 : maze[0].length;
+    }
+
+    public int[][] getMaze() { return maze; }
+    public int rows() { return rows; }
+    public int cols() { return cols; }
+    public int size() { return rows * cols; }
+
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int index(Point p) {
+        return p.x * cols + p.y;
+    }
+
+    public int row(int idx) {
+        return idx / cols;
+    }
+
+    public int col(int idx) {
+        return idx % cols;
+    }
+
+    public boolean isOpen(int idx) {
+        return maze[idx / cols][idx % cols] == 1;
+    }
+
+    public Point toPoint(int idx) {
+        return new Point(idx / cols, idx % cols);
+    }
+
+    // Escreve em "out" os vizinhos que são caminho (mesma ordem de direções dos solvers originais)
+    // e retorna quantos foram encontrados. Não aloca nada.
+    public int neighbors(int idx, int[] out) {
+        int r = idx / cols;
+        int c = idx - r * cols;
+        int count = 0;
+        if (r + 1 < rows && maze[r + 1][c] == 1) out[count++] = idx + cols;
+        if (r - 1 >= 0 && maze[r - 1][c] == 1) out[count++] = idx - cols;
+        if (c + 1 < cols && maze[r][c + 1] == 1) out[count++] = idx + 1;
+        if (c - 1 >= 0 && maze[r][c - 1] == 1) out[count++] = idx - 1;
+        return count;
+    }
+
+    // Quantidade de vizinhos que são caminho (2 = célula de corredor)
+    public int degree(int idx) {
+        int r = idx / cols;
+        int c = idx - r * cols;
+        int count = 0;
+        if (r + 1 < rows && maze[r + 1][c] == 1) count++;
+        if (r - 1 >= 0 && maze[r - 1][c] == 1) count++;
+        if (c + 1 < cols && maze[r][c + 1] == 1) count++;
+        if (c - 1 >= 0 && maze[r][c - 1] == 1) count++;
+        return count;
+    }
+
+    // Em uma célula de corredor (grau 2), devolve o vizinho que não é "prev"
+    public int nextInCorridor(int prev, int cur, int[] buffer) {
+        neighbors(cur, buffer);
+        return buffer[0] == prev ? buffer[1] : buffer[0];
+    }
+
+    public int manhattan(int a, int b) {
+        int ra = a / cols, ca = a - ra * cols;
+        int rb = b / cols, cb = b - rb * cols;
+        return Math.abs(ra - rb) + Math.abs(ca - cb);
+    }
+
+    // Reconstrói o caminho seguindo o vetor de pais (-1 marca a origem) e o grava em "out"
+    public void appendPath(int[] parent, int goal, List<Point> out) {
+        int length = 0;
+        for (int cur = goal; cur != -1; cur = parent[cur]) {
+            length++;
+        }
+        Point[] reversed = new Point[length];
+        int i = length;
+        for (int cur = goal; cur != -1; cur = parent[cur]) {
+            reversed[--i] = toPoint(cur);
+        }
+        for (Point p : reversed) {
+            out.add(p);
+        }
+    }
+}
@@ -11,7 +11,31 @@ public interface MazeSolver {
 
     void solve(int[][] maze, Point start, Point end);
 
+    // Solve com cancelamento cooperativo. Os solvers do projeto sobrescrevem este método e
+    // verificam o token durante a expansão. A versão padrão, para solvers que não o fazem, não
+    // consegue parar a busca, mas confere o token antes e depois dela: se o prazo passou no meio,
+    // o resultado é marcado como interrompido em vez de contar como resolvido
+    default SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        if (token.isCancelled()) {
+            return SolveStats.interrupted(token, 0, -1, startNanos);
+        }
+        solve(maze, start, end);
+        if (token.isCancelled()) {
+            return SolveStats.interrupted(token, getNodesExpanded(), -1, startNanos);
+        }
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
     List<Point> getPath();
 
     List<Point> getSolutionPath();
+
+    // Quantidade de células retiradas da lista aberta e expandidas na última busca
+    long getNodesExpanded();
+
+    // Contadores do último solve (só preenchidos com -Dmaze.metrics=true e nos solvers instrumentados)
+    default SolverMetrics getMetrics() {
+        return SolverMetrics.EMPTY;
+    }
 }
\ No newline at end of file
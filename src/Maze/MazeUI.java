@@ -4,12 +4,27 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
 
 public class MazeUI extends JFrame {
     private int rows = 50;
     private int cols = 50;
     private int cellSize = 15;
+    private static final int QUERIES_PER_MAZE = 100;
+    private static final long SOLVER_TIME_BUDGET_MS = 30_000;
+    private static final int BATCH_WARMUP_RUNS = 1;     // Solves descartados por solver e labirinto
+    private static final int BATCH_REPETITIONS = 3;     // Solves medidos por solver e labirinto
+    private static final String RESULT_SINK_FILE = "benchmark_results.bin"; // Acumula todos os lotes
+    private static final int LANDMARK_COUNT = 8;
+    private static final int EDITS_PER_MAZE = 50;
+    private static final long FIELD_CACHE_BYTES = 64L * 1024 * 1024;
+    private static final long PATH_CACHE_BYTES = 16L * 1024 * 1024;
     private Maze maze;
     private MazePanel mazePanel;
     private Timer generationTimer;
@@ -23,6 +38,7 @@ public class MazeUI extends JFrame {
     private JButton solveParButton;
     private JButton saveResultsButton;
     private JButton batchTestButton;
+    private JButton pipelineButton;
     private JLabel statusLabel;
 
     public MazeUI() {
@@ -41,6 +57,7 @@ public class MazeUI extends JFrame {
         solveParButton = new JButton("A* Paralelo");
         saveResultsButton = new JButton("Salvar Resultados");
         batchTestButton = new JButton("Executar Lote de Testes");
+        pipelineButton = new JButton("Lote em Pipeline");
         statusLabel = new JLabel("", SwingConstants.CENTER);
 
         generateButton.addActionListener(e -> startMazeGeneration());
@@ -52,6 +69,7 @@ public class MazeUI extends JFrame {
             }
         });
         batchTestButton.addActionListener(e -> runBatchTests());
+        pipelineButton.addActionListener(e -> runPipelineBatch());
         saveResultsButton.addActionListener(e -> {
             benchmarkManager.saveReportsToFile();
             JOptionPane.showMessageDialog(this, "Relatórios salvos!", "Sucesso", JOptionPane.INFORMATION_MESSAGE);
@@ -100,8 +118,19 @@ public class MazeUI extends JFrame {
         if (threads <= 0) return;
 
         String mazeSize = rows + "x" + cols;
+        ResultSink sink = openResultSink();
         benchmarkManager.configureNewBatch(mazeSize, numTests, threads);
 
+        // Solvers executados em cada labirinto do lote, na ordem das colunas do relatório. As
+        // instâncias duram o lote inteiro, então estruturas internas e workspaces são reaproveitados
+        Map<String, MazeSolver> batchSolvers = SolverRegistry.createAll(SolverRegistry.names(), threads);
+        // O portfólio é o mesmo em todo o lote para aprender quais membros costumam vencer
+        PortfolioSolver portfolio = (PortfolioSolver) batchSolvers.get(SolverRegistry.label("portfolio", threads));
+
+        // Campos de distância ficam em cache durante todo o lote
+        DistanceFieldCache fieldCache = new DistanceFieldCache(FIELD_CACHE_BYTES, threads);
+        PathCache pathCache = new PathCache(PATH_CACHE_BYTES);
+
         updateButtonStates(State.SOLVING);
 
         new SwingWorker<Void, String>() {
@@ -114,19 +143,94 @@ public class MazeUI extends JFrame {
                     testMaze.generate();
                     benchmarkManager.nextMaze();
 
-                    // Teste Sequencial
-                    AStarSequentialSolver seqSolver = new AStarSequentialSolver();
-                    long startTimeSeq = System.nanoTime();
-                    seqSolver.solve(testMaze.getMaze(), testMaze.getStart(), testMaze.getEnd());
-                    long endTimeSeq = System.nanoTime();
-                    benchmarkManager.addResult("A* Sequencial", (endTimeSeq - startTimeSeq) / 1_000_000);
-
-                    // Teste Paralelo
-                    AStarParallelSolver parSolver = new AStarParallelSolver(threads);
-                    long startTimePar = System.nanoTime();
-                    parSolver.solve(testMaze.getMaze(), testMaze.getStart(), testMaze.getEnd());
-                    long endTimePar = System.nanoTime();
-                    benchmarkManager.addResult("A* Paralelo (" + threads + " threads)", (endTimePar - startTimePar) / 1_000_000);
+                    for (String name : SolverRegistry.names()) {
+                        String label = SolverRegistry.label(name, threads);
+                        // Aquecimento descartado e repetições medidas em ns; cada solve tem um prazo,
+                        // para que um labirinto difícil não trave o lote inteiro
+                        SolveStats stats = benchmarkManager.measure(label, batchSolvers.get(label), testMaze,
+                                BATCH_WARMUP_RUNS, BATCH_REPETITIONS, SolverRegistry.threadsUsed(name, threads),
+                                SOLVER_TIME_BUDGET_MS);
+                        if (stats.isInterrupted()) {
+                            publish(label + " interrompido no labirinto " + i + ": " + stats);
+                        }
+                    }
+
+                    // ARA*: tempo até o primeiro caminho (com peso inflado) e até o caminho ótimo
+                    AnytimeAStarSolver anytime = new AnytimeAStarSolver();
+                    anytime.solve(testMaze.getMaze(), testMaze.getStart(), testMaze.getEnd());
+                    List<AnytimeAStarSolver.Improvement> improvements = anytime.getImprovements();
+                    if (!improvements.isEmpty()) {
+                        AnytimeAStarSolver.Improvement first = improvements.get(0);
+                        AnytimeAStarSolver.Improvement last = improvements.get(improvements.size() - 1);
+                        benchmarkManager.addTiming("ARA* primeira solução", first.getElapsedNanos(), first.getNodesExpanded());
+                        benchmarkManager.addTiming("ARA* ótimo", last.getElapsedNanos(), last.getNodesExpanded());
+                    }
+
+                    // Grafo contraído: pré-processamento e vazão de consultas medidos separadamente.
+                    // A contração não é uma busca, então a linha dela não tem nós expandidos
+                    ContractedGraphSolver contracted = new ContractedGraphSolver();
+                    MazeGraph graph = contracted.prepare(testMaze.getMaze());
+                    benchmarkManager.addTiming("Contração (pré-processamento)", graph.getBuildNanos(), 0);
+                    QueryWorkload workload = QueryWorkload.random(testMaze.getMaze(), QUERIES_PER_MAZE, i);
+                    QueryWorkload.Result queries = workload.run(contracted, testMaze.getMaze());
+                    benchmarkManager.addTiming("Grafo Contraído (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+
+                    // Cache de caminhos: o mesmo lote duas vezes, a segunda passada só com acertos
+                    CachingMazeSolver cached = new CachingMazeSolver(AStarIndexedSolver::new, pathCache);
+                    queries = workload.run(cached, testMaze.getMaze());
+                    benchmarkManager.addTiming("A* com cache, frio (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+                    queries = workload.run(cached, testMaze.getMaze());
+                    benchmarkManager.addTiming("A* com cache, quente (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+
+                    // Landmarks (ALT): mesmo lote de consultas com Manhattan e com a heurística pré-calculada.
+                    // O pré-processamento não expande nós de busca, só preenche as tabelas de distância
+                    LandmarkHeuristic landmarks = LandmarkHeuristic.build(testMaze.getMaze(), LANDMARK_COUNT, threads);
+                    benchmarkManager.addTiming("Landmarks (pré-processamento)", landmarks.getBuildNanos(), 0);
+                    queries = workload.run(new AStarIndexedSolver(), testMaze.getMaze());
+                    benchmarkManager.addTiming("A* Manhattan (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+                    queries = workload.run(new AStarIndexedSolver(landmarks), testMaze.getMaze());
+                    benchmarkManager.addTiming("A* ALT (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+
+                    // Vários inícios para o mesmo fim: campo de distâncias em cache contra A* a cada consulta
+                    QueryWorkload toEnd = QueryWorkload.towards(testMaze.getMaze(), testMaze.getEnd(), QUERIES_PER_MAZE, i);
+                    queries = toEnd.run(new DistanceFieldSolver(fieldCache), testMaze.getMaze());
+                    benchmarkManager.addTiming("Campo de Distâncias (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+                    queries = toEnd.run(new AStarIndexedSolver(), testMaze.getMaze());
+                    benchmarkManager.addTiming("A* mesmo fim (" + QUERIES_PER_MAZE + " consultas)",
+                            queries.getNanos(), queries.getNodesExpanded());
+
+                    // Edições de paredes: reparo incremental (LPA*) contra refazer o A* do zero
+                    int[][] edited = copyMaze(testMaze.getMaze());
+                    LpaStarSolver incremental = new LpaStarSolver();
+                    AStarIndexedSolver fromScratch = new AStarIndexedSolver();
+                    incremental.solve(edited, testMaze.getStart(), testMaze.getEnd());
+                    Random editRandom = new Random(i);
+                    long repairNanos = 0, repairNodes = 0, fullNanos = 0, fullNodes = 0;
+                    Point editStart = testMaze.getStart(), editEnd = testMaze.getEnd();
+                    for (int e = 0; e < EDITS_PER_MAZE; e++) {
+                        // Início e fim nunca viram parede: a consulta deixaria de ter sentido
+                        int editRow, editCol;
+                        do {
+                            editRow = 1 + editRandom.nextInt(rows - 2);
+                            editCol = 1 + editRandom.nextInt(cols - 2);
+                        } while ((editRow == editStart.x && editCol == editStart.y)
+                                || (editRow == editEnd.x && editCol == editEnd.y));
+                        incremental.toggleCell(editRow, editCol);
+                        repairNanos += incremental.getLastRepairNanos();
+                        repairNodes += incremental.getNodesExpanded();
+                        long startTime = System.nanoTime();
+                        fromScratch.solve(edited, testMaze.getStart(), testMaze.getEnd());
+                        fullNanos += System.nanoTime() - startTime;
+                        fullNodes += fromScratch.getNodesExpanded();
+                    }
+                    benchmarkManager.addTiming("LPA* (" + EDITS_PER_MAZE + " edições)", repairNanos, repairNodes);
+                    benchmarkManager.addTiming("A* refeito (" + EDITS_PER_MAZE + " edições)", fullNanos, fullNodes);
                 }
                 return null;
             }
@@ -138,13 +242,105 @@ public class MazeUI extends JFrame {
 
             @Override
             protected void done() {
-                statusLabel.setText("Testes em lote concluídos! " + numTests + " labirintos testados.");
+                closeResultSink(sink);
+                statusLabel.setText("Testes em lote concluídos! " + numTests + " labirintos testados. Cache de campos: "
+                        + fieldCache.getHits() + " acertos, " + fieldCache.getMisses() + " falhas, "
+                        + fieldCache.getEvictions() + " descartes. Cache de caminhos: " + pathCache.getHits()
+                        + " acertos, " + pathCache.getMisses() + " falhas. Vitórias no portfólio: "
+                        + portfolio.getWinCounts(rows, cols));
                 updateButtonStates(MazeUI.State.SOLVED);
                 JOptionPane.showMessageDialog(MazeUI.this, "Testes em lote finalizados! Clique em 'Salvar Resultados' para obter o arquivo.", "Concluído", JOptionPane.INFORMATION_MESSAGE);
             }
         }.execute();
     }
 
+    // Vazão entre labirintos: geração e solução em etapas paralelas ligadas por uma fila limitada
+    private void runPipelineBatch() {
+        String numTestsStr = JOptionPane.showInputDialog(this, "Quantos labirintos deseja processar no pipeline?", "1000");
+        if (numTestsStr == null) return;
+        int numTests;
+        try {
+            numTests = Integer.parseInt(numTestsStr);
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Por favor, insira um número válido.", "Erro", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        int threads = askForThreadCount();
+        if (threads <= 0) return;
+
+        ResultSink sink = openResultSink();
+        benchmarkManager.configureNewBatch(rows + "x" + cols, numTests, threads);
+
+        // Buscas sequenciais: o paralelismo vem de resolver vários labirintos ao mesmo tempo
+        Map<String, Supplier<MazeSolver>> pipelineSolvers = new LinkedHashMap<>();
+        pipelineSolvers.put("A* Sequencial", AStarSequentialSolver::new);
+        pipelineSolvers.put("A* Ótimo", AStarIndexedSolver::new);
+        pipelineSolvers.put("A* com Saltos", JumpPointSolver::new);
+        pipelineSolvers.put("BFS em Bits", BitParallelBfsSolver::new);
+        BatchPipeline pipeline = new BatchPipeline(rows, cols, numTests,
+                Math.max(1, threads / 2), threads, 4 * threads, pipelineSolvers);
+
+        updateButtonStates(State.SOLVING);
+        statusLabel.setText("Processando " + numTests + " labirintos em pipeline...");
+
+        new SwingWorker<BatchPipeline.Report, Void>() {
+            @Override
+            protected BatchPipeline.Report doInBackground() throws Exception {
+                return pipeline.run();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    BatchPipeline.Report report = get();
+                    benchmarkManager.addResults(report.getResults());
+                    benchmarkManager.addNote("Pipeline: " + report);
+                    for (BatchPipeline.Failure failure : report.getFailures()) {
+                        benchmarkManager.addNote("Falha no pipeline: " + failure);
+                    }
+                    statusLabel.setText("Pipeline concluído: " + report);
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                    statusLabel.setText("Erro no pipeline.");
+                }
+                closeResultSink(sink);
+                updateButtonStates(MazeUI.State.SOLVED);
+            }
+        }.execute();
+    }
+
+    // Os resultados do lote também são gravados em RESULT_SINK_FILE enquanto saem (ver ResultReader);
+    // se o arquivo não abre, o lote segue só com os relatórios em memória
+    private ResultSink openResultSink() {
+        ResultSink sink = null;
+        try {
+            sink = new ResultSink(Paths.get(RESULT_SINK_FILE));
+        } catch (IOException e) {
+            System.err.println("Erro ao abrir " + RESULT_SINK_FILE + ": " + e.getMessage());
+        }
+        benchmarkManager.setSink(sink);
+        return sink;
+    }
+
+    private void closeResultSink(ResultSink sink) {
+        benchmarkManager.setSink(null);
+        if (sink == null) return;
+        try {
+            sink.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar " + RESULT_SINK_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static int[][] copyMaze(int[][] maze) {
+        int[][] copy = new int[maze.length][];
+        for (int r = 0; r < maze.length; r++) {
+            copy[r] = maze[r].clone();
+        }
+        return copy;
+    }
+
     private void runSolver(MazeSolver solver, String algorithmName) {
         this.currentSolver = solver;
         updateButtonStates(State.SOLVING);
@@ -163,7 +359,8 @@ public class MazeUI extends JFrame {
             protected void done() {
                 try {
                     long executionTimeMs = get();
-                    statusLabel.setText(String.format("%s levou %d ms", algorithmName, executionTimeMs));
+                    statusLabel.setText(String.format("%s levou %d ms (%d nós expandidos)",
+                            algorithmName, executionTimeMs, solver.getNodesExpanded()));
                     solver.initialize(maze.getMaze(), maze.getStart());
                     solveTimer.start();
                 } catch (Exception ex) {
@@ -196,18 +393,20 @@ public class MazeUI extends JFrame {
 
     private void setupLayout() {
         JPanel buttonPanel = new JPanel();
-        buttonPanel.setLayout(new GridLayout(1, 5, 5, 5));
+        buttonPanel.setLayout(new GridLayout(1, 6, 5, 5));
         buttonPanel.setBackground(Color.BLACK);
         buttonPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         styleButton(generateButton);
         styleButton(solveSeqButton);
         styleButton(solveParButton);
         styleButton(batchTestButton);
+        styleButton(pipelineButton);
         styleButton(saveResultsButton);
         buttonPanel.add(generateButton);
         buttonPanel.add(solveSeqButton);
         buttonPanel.add(solveParButton);
         buttonPanel.add(batchTestButton);
+        buttonPanel.add(pipelineButton);
         buttonPanel.add(saveResultsButton);
         statusLabel.setForeground(Color.WHITE);
         statusLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
@@ -245,6 +444,7 @@ public class MazeUI extends JFrame {
         solveSeqButton.setEnabled(enableActions);
         solveParButton.setEnabled(enableActions);
         batchTestButton.setEnabled(enableBatch);
+        pipelineButton.setEnabled(enableBatch);
         saveResultsButton.setEnabled(state != State.INITIAL);
     }
 
@@ -0,0 +1,421 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A* paralelo sobre uma MultiQueue: c x P heaps com lock próprio. Inserções vão para uma
+// heap aleatória e remoções pegam a melhor entre duas heaps sorteadas, então a ordem é
+// apenas aproximada. O custo g de cada célula é atualizado por CAS e a busca só termina
+// quando nenhuma entrada restante tem f menor que o incumbente, garantindo o caminho ótimo.
+public class MultiQueueSolver implements MazeSolver {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int QUEUES_PER_THREAD = 2;
+    private static final long EMPTY = Long.MAX_VALUE;
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private LockedHeap[] queues;
+    // Melhor custo de cada célula junto com o pai e a geração da busca, em três campos:
+    // geração | g + 1 | pai + 1 (os dois últimos com fieldBits bits). Estado de outra geração
+    // vale "não alcançada", então os arrays são reaproveitados entre solves sem preencher nada
+    private AtomicLongArray best;
+    private AtomicIntegerArray expandedStamp; // Geração em que cada célula foi expandida
+    private int fieldBits;
+    private long fieldMask;
+    private int generation;
+    private int maxGeneration;
+    private final AtomicInteger incumbent = new AtomicInteger(INFINITY);
+    // Entradas nas heaps + expansões em andamento; zero significa busca encerrada
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicLong nodesExpanded = new AtomicLong();
+    private final LongAdder reExpansions = new LongAdder();
+    private final LongAdder lockFailures = new LongAdder();
+    private final SolverMetrics metrics = new SolverMetrics();
+    private CancellationToken token = CancellationToken.NONE; // Consultado pelos workers
+    private volatile boolean interrupted;
+    private int startIdx;
+    private int goal;
+    private final int[] stepSuccessors = new int[4];
+    private final int[] stepNeighbors = new int[4];
+
+    private final int parallelism;
+
+    public MultiQueueSolver(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+        this.queues = new LockedHeap[QUEUES_PER_THREAD * this.parallelism];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new LockedHeap();
+        }
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        if (best == null || best.length() < cells) {
+            best = new AtomicLongArray(cells);
+            expandedStamp = new AtomicIntegerArray(cells);
+            // g + 1 e pai + 1 vão até "cells"; o que sobra dos 64 bits guarda a geração
+            fieldBits = 32 - Integer.numberOfLeadingZeros(cells);
+            fieldMask = (1L << fieldBits) - 1;
+            maxGeneration = (int) Math.min(Integer.MAX_VALUE - 1, (1L << (64 - 2 * fieldBits)) - 1);
+            generation = 0;
+        }
+        if (++generation > maxGeneration) {
+            // Gerações esgotadas: zera os arrays uma vez e recomeça
+            for (int i = 0; i < best.length(); i++) {
+                best.set(i, 0L);
+                expandedStamp.set(i, 0);
+            }
+            generation = 1;
+        }
+        for (LockedHeap q : queues) {
+            q.clear();
+        }
+        path.clear();
+        solutionPath.clear();
+        incumbent.set(INFINITY);
+        nodesExpanded.set(0);
+        reExpansions.reset();
+        lockFailures.reset();
+        if (SolverMetrics.ENABLED) metrics.reset();
+        goal = -1;
+
+        startIdx = grid.index(start);
+        best.set(startIdx, pack(0, -1));
+        outstanding.set(1);
+        insert(((long) 0 << 32) | startIdx);
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    // Cada worker consulta o token; o primeiro que o vê faz todos pararem via "interrupted"
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        setGoal(end);
+        this.token = token;
+        interrupted = false;
+
+        // Se um worker falhar, os outros saem por "interrupted" e a exceção sai daqui
+        ForkJoinPool customPool = SolverExecutors.acquire(this.parallelism);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                tasks.add(customPool.submit(this::runWorker));
+            }
+            SolverExecutors.awaitAll(tasks, () -> interrupted = true);
+        } finally {
+            this.token = CancellationToken.NONE;
+            SolverExecutors.release(customPool);
+        }
+        if (interrupted) {
+            solutionPath.clear();
+            return SolveStats.interrupted(token, nodesExpanded.get(), -1, startNanos);
+        }
+        finish();
+        return SolveStats.finished(this, -1, startNanos);
+    }
+
+    @Override
+    public boolean step(Point end) {
+        setGoal(end);
+        while (outstanding.get() > 0) {
+            int cell = processOne(stepSuccessors, stepNeighbors);
+            if (cell >= 0) {
+                path.add(grid.toPoint(cell));
+                return true;
+            }
+        }
+        finish();
+        return false;
+    }
+
+    private void runWorker() {
+        try {
+            search();
+        } catch (Throwable e) {
+            // "outstanding" nunca chegaria a zero: os outros workers param pelo sinal
+            interrupted = true;
+            throw e;
+        }
+    }
+
+    private void search() {
+        int[] successors = new int[4];
+        int[] neighbors = new int[4];
+        int spins = 0;
+        long iteration = 0;
+        while (outstanding.get() > 0 && !interrupted) {
+            if (token.shouldStop(++iteration)) {
+                interrupted = true;
+                return;
+            }
+            if (processOne(successors, neighbors) == -2) {
+                // Tudo vazio, mas alguma thread ainda pode inserir sucessores
+                if (++spins < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            } else {
+                spins = 0;
+            }
+        }
+    }
+
+    // Remove uma entrada e a expande. Retorna a célula expandida, -1 se a entrada foi
+    // descartada (obsoleta ou podada pelo incumbente) ou -2 se não havia entradas
+    private int processOne(int[] successors, int[] neighbors) {
+        long entry = deleteMin();
+        if (entry == EMPTY) {
+            return -2;
+        }
+        int cell = (int) entry;
+        int f = (int) (entry >>> 32);
+        long state = best.get(cell);
+        int g = gOf(state);
+        if (f >= incumbent.get() || g + grid.manhattan(cell, goal) < f) {
+            outstanding.decrementAndGet();
+            return -1;
+        }
+
+        nodesExpanded.incrementAndGet();
+        if (!markExpanded(cell)) {
+            reExpansions.increment(); // A célula foi melhorada depois de já ter sido expandida
+        }
+
+        int count = grid.neighbors(cell, neighbors);
+        int newG = g + 1;
+        int k = 0;
+        for (int i = 0; i < count; i++) {
+            int neighbor = neighbors[i];
+            if (!tryImprove(neighbor, newG, cell)) continue;
+            if (neighbor == goal) {
+                lowerIncumbent(newG);
+            } else if (newG + grid.manhattan(neighbor, goal) < incumbent.get()) {
+                successors[k++] = neighbor;
+            }
+        }
+
+        // A entrada removida "vira" um dos sucessores; o contador é ajustado antes das
+        // inserções para nunca chegar a zero enquanto ainda há trabalho
+        if (k == 0) {
+            outstanding.decrementAndGet();
+        } else {
+            if (k > 1) outstanding.addAndGet(k - 1);
+            for (int i = 0; i < k; i++) {
+                int s = successors[i];
+                insert(((long) (newG + grid.manhattan(s, goal)) << 32) | s);
+            }
+        }
+        return cell;
+    }
+
+    // Diminui o g da célula via CAS; falha se outra thread já tiver um custo igual ou menor
+    private boolean tryImprove(int cell, int g, int parent) {
+        long updated = pack(g, parent);
+        while (true) {
+            long current = best.get(cell);
+            int currentG = gOf(current);
+            if (currentG <= g) return false;
+            if (best.compareAndSet(cell, current, updated)) {
+                // Célula já alcançada: a entrada antiga fica obsoleta na heap
+                if (SolverMetrics.ENABLED && currentG != INFINITY) metrics.duplicatePush();
+                return true;
+            }
+            if (SolverMetrics.ENABLED) metrics.casFailure();
+        }
+    }
+
+    private void lowerIncumbent(int cost) {
+        int current;
+        while (cost < (current = incumbent.get())) {
+            if (incumbent.compareAndSet(current, cost)) return;
+            if (SolverMetrics.ENABLED) metrics.casFailure();
+        }
+    }
+
+    // true só para quem expande a célula pela primeira vez nesta busca
+    private boolean markExpanded(int cell) {
+        return expandedStamp.getAndSet(cell, generation) != generation;
+    }
+
+    private void insert(long entry) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            LockedHeap q = queues[random.nextInt(queues.length)];
+            if (q.lock.tryLock()) {
+                try {
+                    q.push(entry);
+                } finally {
+                    q.lock.unlock();
+                }
+                if (SolverMetrics.ENABLED) metrics.push(outstanding.get());
+                return;
+            }
+            lockFailures.increment();
+            if (SolverMetrics.ENABLED) metrics.lockFailure();
+        }
+    }
+
+    // Escolhe a melhor de duas heaps aleatórias; se ambas parecerem vazias, varre todas
+    private long deleteMin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < queues.length; attempt++) {
+            LockedHeap a = queues[random.nextInt(queues.length)];
+            LockedHeap b = queues[random.nextInt(queues.length)];
+            LockedHeap chosen = a.top <= b.top ? a : b;
+            if (chosen.top == EMPTY) break;
+            long entry = tryPop(chosen);
+            if (entry != EMPTY) return entry;
+        }
+        for (LockedHeap q : queues) {
+            if (q.top != EMPTY) {
+                long entry = tryPop(q);
+                if (entry != EMPTY) return entry;
+            }
+        }
+        return EMPTY;
+    }
+
+    private long tryPop(LockedHeap q) {
+        if (!q.lock.tryLock()) {
+            lockFailures.increment();
+            if (SolverMetrics.ENABLED) metrics.lockFailure();
+            return EMPTY;
+        }
+        try {
+            long entry = q.pop();
+            if (SolverMetrics.ENABLED && entry != EMPTY) metrics.pop();
+            return entry;
+        } finally {
+            q.lock.unlock();
+        }
+    }
+
+    private void setGoal(Point end) {
+        goal = grid.index(end);
+        if (goal == startIdx) {
+            lowerIncumbent(0);
+        }
+    }
+
+    private void finish() {
+        solutionPath.clear();
+        if (incumbent.get() == INFINITY) {
+            return;
+        }
+        // Cada pai tem g estritamente menor que o filho, então a cadeia sempre chega ao início
+        List<Point> reversed = new ArrayList<>();
+        for (int cur = goal; cur != -1; cur = parentOf(best.get(cur))) {
+            reversed.add(grid.toPoint(cur));
+        }
+        Collections.reverse(reversed);
+        solutionPath.addAll(reversed);
+    }
+
+    private long pack(int g, int parent) {
+        return ((long) generation << (2 * fieldBits)) | ((long) (g + 1) << fieldBits) | (parent + 1);
+    }
+
+    private int gOf(long state) {
+        if ((state >>> (2 * fieldBits)) != generation) return INFINITY;
+        return (int) ((state >>> fieldBits) & fieldMask) - 1;
+    }
+
+    private int parentOf(long state) {
+        return (int) (state & fieldMask) - 1;
+    }
+
+    // Heap binária de entradas (f << 32 | célula) protegida por lock; "top" é lido sem lock
+    private static final class LockedHeap {
+        final ReentrantLock lock = new ReentrantLock();
+        long[] entries = new long[256];
+        int size;
+        volatile long top = EMPTY;
+
+        void clear() {
+            size = 0;
+            top = EMPTY;
+        }
+
+        void push(long entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (entries[parent] <= entry) break;
+                entries[i] = entries[parent];
+                i = parent;
+            }
+            entries[i] = entry;
+            top = entries[0];
+        }
+
+        long pop() {
+            if (size == 0) return EMPTY;
+            long result = entries[0];
+            long last = entries[--size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && entries[child + 1] < entries[child]) child++;
+                if (last <= entries[child]) break;
+                entries[i] = entries[child];
+                i = child;
+            }
+            entries[i] = last;
+            top = size == 0 ? EMPTY : entries[0];
+            return result;
+        }
+    }
+
+    public long getReExpansions() {
+        return reExpansions.sum();
+    }
+
+    public long getLockFailures() {
+        return lockFailures.sum();
+    }
+
+    @Override
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded.get();
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
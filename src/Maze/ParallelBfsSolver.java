@@ -0,0 +1,376 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// BFS paralela sincronizada por níveis. Todo passo no labirinto custa 1, então a primeira
+// vez que uma célula é alcançada já é pela menor distância e não é preciso fila de prioridade.
+// Fronteira e próxima fronteira são bitmaps; a expansão alterna entre top-down (a fronteira
+// procura vizinhos livres) e bottom-up (células livres procuram um pai na fronteira).
+public class ParallelBfsSolver implements MazeSolver {
+
+    private static final int CHUNK_WORDS = 64;      // Palavras de 64 bits por tarefa
+    private static final int BOTTOM_UP_ALPHA = 14;  // Vai para bottom-up quando a fronteira é grande
+    private static final int TOP_DOWN_BETA = 24;    // Volta para top-down quando ela encolhe
+
+    private MazeGrid grid;
+    private List<Point> path;
+    private List<Point> solutionPath;
+    private int words;
+    private long[] open;              // Bitmap das células livres de openMaze
+    private int[][] openMaze;         // Matriz de onde "open" foi montado, reaproveitado enquanto for a mesma
+    private AtomicLongArray visited;
+    private int[] visitedWords;       // Palavras não vazias de "visited", limpas no próximo solve
+    private final AtomicInteger visitedWordCount = new AtomicInteger();
+    private boolean levelInProgress;  // Um nível interrompido por exceção deixa os bitmaps sujos
+    private AtomicLongArray current;  // Fronteira do nível atual
+    private AtomicLongArray next;     // Fronteira do próximo nível
+    private int[] currentWords;       // Palavras não vazias de "current"
+    private int currentWordCount;
+    private int[] nextWords;
+    private final AtomicInteger nextWordCount = new AtomicInteger();
+    private final LongAdder nextCells = new LongAdder();
+    private int[] parent;
+    private int[] dist;
+    private int level;
+    private long frontierCells;
+    private long openCells;
+    private long visitedCells;
+    private boolean bottomUp;
+    private long nodesExpanded;
+
+    private final int parallelism;
+    private ForkJoinPool pool;
+
+    public ParallelBfsSolver(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.path = new ArrayList<>();
+        this.solutionPath = new ArrayList<>();
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.grid = new MazeGrid(maze);
+        int cells = grid.size();
+        words = (cells + 63) >>> 6;
+        if (parent == null || parent.length < cells) {
+            parent = new int[cells];
+            dist = new int[cells];
+        }
+        // Bitmaps reaproveitados entre solves: só as palavras tocadas pela busca anterior são limpas
+        if (open == null || open.length < words) {
+            open = new long[words];
+            visited = new AtomicLongArray(words);
+            current = new AtomicLongArray(words);
+            next = new AtomicLongArray(words);
+            currentWords = new int[words];
+            nextWords = new int[words];
+            visitedWords = new int[words];
+            openMaze = null;
+        } else {
+            clearBitmaps();
+        }
+        nextWordCount.set(0);
+        visitedWordCount.set(0);
+        levelInProgress = false;
+        if (openMaze != maze) {
+            buildOpen(maze);
+        }
+
+        path.clear();
+        solutionPath.clear();
+        level = 0;
+        bottomUp = false;
+        nodesExpanded = 0;
+
+        int startIdx = grid.index(start);
+        visited.set(startIdx >>> 6, 1L << startIdx);
+        visitedWords[visitedWordCount.getAndIncrement()] = startIdx >>> 6;
+        current.set(startIdx >>> 6, 1L << startIdx);
+        currentWords[0] = startIdx >>> 6;
+        currentWordCount = 1;
+        frontierCells = 1;
+        visitedCells = 1;
+        parent[startIdx] = -1;
+        dist[startIdx] = 0;
+    }
+
+    // "visited" e a última fronteira pelas listas de palavras; "next" já sai limpo de cada nível
+    private void clearBitmaps() {
+        if (levelInProgress) {
+            for (int w = 0; w < visited.length(); w++) {
+                visited.set(w, 0L);
+                current.set(w, 0L);
+                next.set(w, 0L);
+            }
+            return;
+        }
+        for (int i = 0, n = visitedWordCount.get(); i < n; i++) {
+            visited.set(visitedWords[i], 0L);
+        }
+        for (int i = 0; i < currentWordCount; i++) {
+            current.set(currentWords[i], 0L);
+        }
+    }
+
+    // Percorre a matriz inteira: só acontece quando o labirinto muda
+    private void buildOpen(int[][] maze) {
+        Arrays.fill(open, 0, words, 0L);
+        openCells = 0;
+        int cols = grid.cols();
+        for (int r = 0; r < grid.rows(); r++) {
+            int[] row = maze[r];
+            for (int c = 0; c < cols; c++) {
+                if (row[c] == 1) {
+                    int i = r * cols + c;
+                    open[i >>> 6] |= 1L << i;
+                    openCells++;
+                }
+            }
+        }
+        openMaze = maze;
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int goal = grid.index(end);
+        if (!runLevels(goal, token)) {
+            return SolveStats.interrupted(token, nodesExpanded, level, startNanos);
+        }
+        if (isVisited(goal)) {
+            grid.appendPath(parent, goal, solutionPath);
+        }
+        return SolveStats.finished(this, level, startNanos);
+    }
+
+    // Distância de cada célula até "source" (-1 onde não há caminho), percorrendo o labirinto inteiro
+    public int[] computeDistanceField(int[][] maze, Point source) {
+        return computeDistanceField(maze, source, CancellationToken.NONE);
+    }
+
+    // Igual, mas devolve null se o token interromper a BFS
+    public int[] computeDistanceField(int[][] maze, Point source, CancellationToken token) {
+        initialize(maze, source);
+        if (!runLevels(-1, token)) {
+            return null;
+        }
+        int[] field = new int[grid.size()];
+        for (int i = 0; i < field.length; i++) {
+            field[i] = isVisited(i) ? dist[i] : -1;
+        }
+        return field;
+    }
+
+    // Vetor de pais da última busca (válido apenas para células alcançadas)
+    public int[] getParents() {
+        return parent;
+    }
+
+    // Devolve false se o token interrompeu a busca. O token é visto a cada nível: um nível
+    // (principalmente em bottom-up) custa bem mais que a leitura do relógio
+    private boolean runLevels(int goal, CancellationToken token) {
+        pool = SolverExecutors.acquire(this.parallelism);
+        try {
+            while (frontierCells > 0 && (goal < 0 || !isVisited(goal))) {
+                if (token.isCancelled()) return false;
+                expandLevel(true);
+            }
+            return true;
+        } finally {
+            SolverExecutors.release(pool);
+            pool = null;
+        }
+    }
+
+    // Na animação cada passo expande um nível inteiro, sem usar o pool
+    @Override
+    public boolean step(Point end) {
+        int goal = grid.index(end);
+        if (frontierCells == 0 || isVisited(goal)) {
+            solutionPath.clear();
+            if (isVisited(goal)) {
+                grid.appendPath(parent, goal, solutionPath);
+            }
+            return false;
+        }
+        for (int i = 0; i < currentWordCount; i++) {
+            int w = currentWords[i];
+            for (long bits = current.get(w); bits != 0; bits &= bits - 1) {
+                path.add(grid.toPoint((w << 6) + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        expandLevel(false);
+        return true;
+    }
+
+    private void expandLevel(boolean parallel) {
+        long unvisited = openCells - visitedCells;
+        if (!bottomUp && frontierCells * BOTTOM_UP_ALPHA > unvisited) {
+            bottomUp = true;
+        } else if (bottomUp && frontierCells * TOP_DOWN_BETA < openCells) {
+            bottomUp = false;
+        }
+
+        levelInProgress = true;
+        nodesExpanded += frontierCells;
+        nextCells.reset();
+        nextWordCount.set(0);
+
+        if (bottomUp) {
+            int chunks = (words + CHUNK_WORDS - 1) / CHUNK_WORDS;
+            forEachChunk(chunks, parallel, chunk -> {
+                int[] neighbors = new int[4];
+                int end = Math.min(words, (chunk + 1) * CHUNK_WORDS);
+                for (int w = chunk * CHUNK_WORDS; w < end; w++) {
+                    bottomUpWord(w, neighbors);
+                }
+            });
+        } else {
+            int chunks = (currentWordCount + CHUNK_WORDS - 1) / CHUNK_WORDS;
+            forEachChunk(chunks, parallel, chunk -> {
+                int[] neighbors = new int[4];
+                int end = Math.min(currentWordCount, (chunk + 1) * CHUNK_WORDS);
+                for (int i = chunk * CHUNK_WORDS; i < end; i++) {
+                    topDownWord(currentWords[i], neighbors);
+                }
+            });
+        }
+
+        // Limpa só as palavras usadas pela fronteira antiga e troca os papéis dos bitmaps
+        for (int i = 0; i < currentWordCount; i++) {
+            current.set(currentWords[i], 0L);
+        }
+        AtomicLongArray swapBits = current;
+        current = next;
+        next = swapBits;
+        int[] swapWords = currentWords;
+        currentWords = nextWords;
+        nextWords = swapWords;
+        currentWordCount = nextWordCount.get();
+        frontierCells = nextCells.sum();
+        visitedCells += frontierCells;
+        level++;
+        levelInProgress = false;
+    }
+
+    private void forEachChunk(int chunks, boolean parallel, IntConsumer task) {
+        // Fronteiras pequenas (o caso comum em corredores) não compensam o custo do pool
+        if (!parallel || chunks <= 1) {
+            for (int c = 0; c < chunks; c++) {
+                task.accept(c);
+            }
+            return;
+        }
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(task)).get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void topDownWord(int w, int[] neighbors) {
+        int claimed = 0;
+        for (long bits = current.get(w); bits != 0; bits &= bits - 1) {
+            int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+            int count = grid.neighbors(u, neighbors);
+            for (int i = 0; i < count; i++) {
+                int v = neighbors[i];
+                if (claim(v)) {
+                    parent[v] = u;
+                    dist[v] = level + 1;
+                    addToNext(v);
+                    claimed++;
+                }
+            }
+        }
+        if (claimed > 0) nextCells.add(claimed);
+    }
+
+    // Cada tarefa é dona das suas palavras, então aqui não há disputa por "visited"
+    private void bottomUpWord(int w, int[] neighbors) {
+        long candidates = open[w] & ~visited.get(w);
+        int claimed = 0;
+        for (long bits = candidates; bits != 0; bits &= bits - 1) {
+            int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+            int count = grid.neighbors(v, neighbors);
+            for (int i = 0; i < count; i++) {
+                int u = neighbors[i];
+                if ((current.get(u >>> 6) & (1L << u)) != 0) {
+                    parent[v] = u;
+                    dist[v] = level + 1;
+                    long seen = visited.get(w);
+                    if (seen == 0) visitedWords[visitedWordCount.getAndIncrement()] = w;
+                    visited.set(w, seen | (1L << v));
+                    addToNext(v);
+                    claimed++;
+                    break;
+                }
+            }
+        }
+        if (claimed > 0) nextCells.add(claimed);
+    }
+
+    private boolean claim(int cell) {
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        while (true) {
+            long old = visited.get(w);
+            if ((old & bit) != 0) return false;
+            if (visited.compareAndSet(w, old, old | bit)) {
+                if (old == 0) visitedWords[visitedWordCount.getAndIncrement()] = w;
+                return true;
+            }
+        }
+    }
+
+    private void addToNext(int cell) {
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        while (true) {
+            long old = next.get(w);
+            if (next.compareAndSet(w, old, old | bit)) {
+                // Quem deixa a palavra não vazia a registra na lista da próxima fronteira
+                if (old == 0) {
+                    nextWords[nextWordCount.getAndIncrement()] = w;
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean isVisited(int cell) {
+        return (visited.get(cell >>> 6) & (1L << cell)) != 0;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return solutionPath;
+    }
+}
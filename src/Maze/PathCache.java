@@ -0,0 +1,90 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache LRU de caminhos já resolvidos, chaveado por (fingerprint do labirinto, início, fim).
+// Guarda os caminhos compactados pelo PathCodec e limita o total de bytes armazenados.
+// Todos os métodos são sincronizados, então o cache pode ser compartilhado entre threads.
+public class PathCache {
+
+    private static final class Key {
+        final long fingerprint;
+        final int startRow, startCol, endRow, endCol;
+
+        Key(long fingerprint, Point start, Point end) {
+            this.fingerprint = fingerprint;
+            this.startRow = start.x;
+            this.startCol = start.y;
+            this.endRow = end.x;
+            this.endCol = end.y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return fingerprint == k.fingerprint && startRow == k.startRow && startCol == k.startCol
+                    && endRow == k.endRow && endCol == k.endCol;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = fingerprint;
+            h = h * 31 + startRow;
+            h = h * 31 + startCol;
+            h = h * 31 + endRow;
+            h = h * 31 + endCol;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private final long budgetBytes;
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesInUse;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public PathCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    // Caminho compactado ou null se a consulta ainda não foi resolvida
+    public synchronized byte[] get(long fingerprint, Point start, Point end) {
+        byte[] encoded = entries.get(new Key(fingerprint, start, end));
+        if (encoded != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return encoded;
+    }
+
+    public synchronized void put(long fingerprint, Point start, Point end, byte[] encoded) {
+        byte[] previous = entries.put(new Key(fingerprint, start, end), encoded);
+        if (previous != null) {
+            bytesInUse -= previous.length;
+        }
+        bytesInUse += encoded.length;
+        Iterator<Map.Entry<Key, byte[]>> it = entries.entrySet().iterator();
+        while (bytesInUse > budgetBytes && entries.size() > 1 && it.hasNext()) {
+            bytesInUse -= it.next().getValue().length;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytesInUse = 0;
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getBytesInUse() { return bytesInUse; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+}
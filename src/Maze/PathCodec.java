@@ -0,0 +1,80 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+// Caminho compactado: número de células e célula inicial (3 ints) seguidos de 2 bits por
+// passo (baixo, cima, direita, esquerda), ou seja, 4 passos por byte em vez de um Point cada.
+// Um vetor vazio representa "sem caminho".
+public final class PathCodec {
+
+    private static final int HEADER_BYTES = 12;
+
+    private PathCodec() {
+    }
+
+    public static byte[] encode(List<Point> path) {
+        int length = path.size();
+        if (length == 0) {
+            return new byte[0];
+        }
+        int steps = length - 1;
+        byte[] out = new byte[HEADER_BYTES + (steps + 3) / 4];
+        Point first = path.get(0);
+        writeInt(out, 0, length);
+        writeInt(out, 4, first.x);
+        writeInt(out, 8, first.y);
+        for (int i = 1; i < length; i++) {
+            Point a = path.get(i - 1);
+            Point b = path.get(i);
+            int direction;
+            if (b.x == a.x + 1 && b.y == a.y) direction = 0;
+            else if (b.x == a.x - 1 && b.y == a.y) direction = 1;
+            else if (b.y == a.y + 1 && b.x == a.x) direction = 2;
+            else if (b.y == a.y - 1 && b.x == a.x) direction = 3;
+            else throw new IllegalArgumentException("Células não vizinhas no caminho: " + a + " -> " + b);
+            int step = i - 1;
+            out[HEADER_BYTES + step / 4] |= (byte) (direction << ((step % 4) * 2));
+        }
+        return out;
+    }
+
+    public static List<Point> decode(byte[] encoded) {
+        List<Point> path = new ArrayList<>();
+        decodeInto(encoded, path);
+        return path;
+    }
+
+    public static void decodeInto(byte[] encoded, List<Point> out) {
+        if (encoded.length == 0) {
+            return;
+        }
+        int length = readInt(encoded, 0);
+        int row = readInt(encoded, 4);
+        int col = readInt(encoded, 8);
+        out.add(new Point(row, col));
+        for (int step = 0; step < length - 1; step++) {
+            int direction = (encoded[HEADER_BYTES + step / 4] >> ((step % 4) * 2)) & 3;
+            switch (direction) {
+                case 0: row++; break;
+                case 1: row--; break;
+                case 2: col++; break;
+                default: col--; break;
+            }
+            out.add(new Point(row, col));
+        }
+    }
+
+    private static void writeInt(byte[] out, int offset, int value) {
+        out[offset] = (byte) (value >>> 24);
+        out[offset + 1] = (byte) (value >>> 16);
+        out[offset + 2] = (byte) (value >>> 8);
+        out[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] in, int offset) {
+        return (in[offset] & 0xFF) << 24 | (in[offset + 1] & 0xFF) << 16
+                | (in[offset + 2] & 0xFF) << 8 | (in[offset + 3] & 0xFF);
+    }
+}
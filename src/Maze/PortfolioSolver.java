@@ -0,0 +1,213 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Portfólio de solvers ótimos: todos correm no mesmo labirinto em um executor compartilhado, o
+// primeiro a terminar vence e os outros são cancelados pelo token da corrida. Os membros precisam
+// verificar o token durante a busca (sobrescrever solve com token): o portfólio espera os
+// perdedores pararem antes de devolver, para não deixar CPU ocupada no executor. As vitórias são
+// contadas por faixa de tamanho do labirinto e, depois de algumas corridas, só os membros que
+// mais venceram naquela faixa são lançados (com uma corrida completa de vez em quando).
+// Cada thread do executor guarda uma instância de cada membro, reaproveitada entre corridas
+// (os buffers dos solvers só são alocados de novo quando o labirinto muda de tamanho).
+public class PortfolioSolver implements MazeSolver {
+
+    private static final int WARMUP_RACES = 8;     // Corridas com todos os membros por faixa
+    private static final int TOP_MEMBERS = 2;      // Membros lançados depois do aquecimento
+    private static final int EXPLORE_EVERY = 16;   // A cada N corridas, todos voltam a correr
+
+    private static final class Finish {
+        final String name;
+        final MazeSolver solver;
+        final SolveStats stats;
+
+        Finish(String name, MazeSolver solver, SolveStats stats) {
+            this.name = name;
+            this.solver = solver;
+            this.stats = stats;
+        }
+    }
+
+    private final Map<String, ThreadLocal<MazeSolver>> members = new LinkedHashMap<>();
+    private final ExecutorService executor;
+    private final Map<Integer, Map<String, LongAdder>> wins = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> races = new ConcurrentHashMap<>();
+
+    private int[][] maze;
+    private Point start;
+    private MazeSolver winner;
+    private String winnerName;
+    private final List<Point> emptyPath = new ArrayList<>();
+
+    public PortfolioSolver(Map<String, Supplier<MazeSolver>> members) {
+        this(members, SolverExecutors.tasks());
+    }
+
+    public PortfolioSolver(Map<String, Supplier<MazeSolver>> members, ExecutorService executor) {
+        for (Map.Entry<String, Supplier<MazeSolver>> member : members.entrySet()) {
+            this.members.put(member.getKey(), ThreadLocal.withInitial(member.getValue()));
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public void initialize(int[][] maze, Point start) {
+        this.maze = maze;
+        this.start = start;
+        this.winner = null;
+        this.winnerName = null;
+    }
+
+    // A corrida não é animada: o primeiro passo roda o portfólio e mostra o caminho do vencedor
+    @Override
+    public boolean step(Point end) {
+        if (winner == null) {
+            solve(maze, start, end);
+        }
+        return false;
+    }
+
+    @Override
+    public void solve(int[][] maze, Point start, Point end) {
+        solve(maze, start, end, CancellationToken.NONE);
+    }
+
+    @Override
+    public SolveStats solve(int[][] maze, Point start, Point end, CancellationToken token) {
+        long startNanos = System.nanoTime();
+        initialize(maze, start);
+        int bucket = sizeBucket(maze);
+        List<String> launched = chooseMembers(bucket);
+
+        CancellationToken race = CancellationToken.create();
+        CompletionService<Finish> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Finish>> futures = new ArrayList<>();
+        for (String name : launched) {
+            ThreadLocal<MazeSolver> instances = members.get(name);
+            futures.add(completion.submit(() -> {
+                MazeSolver solver = instances.get();
+                if (race.isCancelled()) {
+                    // A corrida acabou antes de este membro começar
+                    return new Finish(name, solver, SolveStats.interrupted(race, 0, -1, System.nanoTime()));
+                }
+                return new Finish(name, solver, solver.solve(maze, start, end, race));
+            }));
+        }
+
+        Throwable failure = null;
+        try {
+            int pending = launched.size();
+            while (pending > 0 && winner == null) {
+                if (token.isCancelled()) {
+                    return SolveStats.interrupted(token, 0, -1, startNanos);
+                }
+                Future<Finish> done = completion.poll(1, TimeUnit.MILLISECONDS);
+                if (done == null) continue;
+                pending--;
+                try {
+                    Finish finish = done.get();
+                    if (!finish.stats.isInterrupted()) {
+                        winner = finish.solver;
+                        winnerName = finish.name;
+                    }
+                } catch (ExecutionException e) {
+                    // Um membro que falha só perde a corrida
+                    if (failure == null) failure = e.getCause();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Os perdedores param na próxima verificação do token; os que ainda não começaram
+            // devolvem na hora. Esperar por eles deixa o executor livre para a próxima medição
+            race.cancel();
+            awaitAll(futures);
+        }
+
+        if (winner == null) {
+            if (token.isCancelled() || Thread.currentThread().isInterrupted()) {
+                return SolveStats.interrupted(token, 0, -1, startNanos);
+            }
+            // Nenhum membro terminou sem que o chamador tenha cancelado: é uma falha, não um cancelamento
+            throw new IllegalStateException("Nenhum membro do portfólio terminou a busca", failure);
+        }
+        races.computeIfAbsent(bucket, b -> new AtomicLong()).incrementAndGet();
+        wins.computeIfAbsent(bucket, b -> new ConcurrentHashMap<>())
+                .computeIfAbsent(winnerName, n -> new LongAdder()).increment();
+        return SolveStats.finished(winner, -1, startNanos);
+    }
+
+    private static void awaitAll(List<Future<Finish>> futures) {
+        boolean interrupted = false;
+        for (Future<Finish> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Faixa de tamanho: potência de 2 do número de células
+    private static int sizeBucket(int[][] maze) {
+        int cells = maze.length * (maze.length == 0 ? 0 : maze[0].length);
+        return Integer.highestOneBit(Math.max(1, cells));
+    }
+
+    private List<String> chooseMembers(int bucket) {
+        long raceCount = races.getOrDefault(bucket, new AtomicLong()).get();
+        Map<String, LongAdder> bucketWins = wins.get(bucket);
+        if (raceCount < WARMUP_RACES || raceCount % EXPLORE_EVERY == 0 || bucketWins == null) {
+            return new ArrayList<>(members.keySet());
+        }
+        List<String> ranked = new ArrayList<>(members.keySet());
+        ranked.sort(Comparator.comparingLong((String name) -> {
+            LongAdder count = bucketWins.get(name);
+            return count == null ? 0 : count.sum();
+        }).reversed());
+        return ranked.subList(0, Math.min(TOP_MEMBERS, ranked.size()));
+    }
+
+    // Vitórias de cada membro na faixa de tamanho de um labirinto rows x cols
+    public Map<String, Long> getWinCounts(int rows, int cols) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, LongAdder> bucketWins = wins.get(Integer.highestOneBit(Math.max(1, rows * cols)));
+        for (String name : members.keySet()) {
+            LongAdder count = bucketWins == null ? null : bucketWins.get(name);
+            counts.put(name, count == null ? 0L : count.sum());
+        }
+        return counts;
+    }
+
+    public String getWinnerName() {
+        return winnerName;
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return winner == null ? 0 : winner.getNodesExpanded();
+    }
+
+    @Override
+    public List<Point> getPath() {
+        return winner == null ? emptyPath : winner.getPath();
+    }
+
+    @Override
+    public List<Point> getSolutionPath() {
+        return winner == null ? emptyPath : winner.getSolutionPath();
+    }
+}
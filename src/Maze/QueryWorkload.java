@@ -0,0 +1,83 @@
+package Maze;
+
+import java.awt.Point;
+import java.util.Random;
+
+// Conjunto fixo de consultas (início, fim) sorteadas entre as células livres de um labirinto,
+// usado para medir a vazão de solvers que reaproveitam pré-processamento entre consultas
+public final class QueryWorkload {
+
+    private final Point[] starts;
+    private final Point[] ends;
+
+    private QueryWorkload(Point[] starts, Point[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static QueryWorkload random(int[][] maze, int count, long seed) {
+        Random rand = new Random(seed);
+        Point[] starts = new Point[count];
+        Point[] ends = new Point[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = randomOpenCell(maze, rand);
+            ends[i] = randomOpenCell(maze, rand);
+        }
+        return new QueryWorkload(starts, ends);
+    }
+
+    // Inícios sorteados e todos com o mesmo fim (por exemplo, Maze.getEnd())
+    public static QueryWorkload towards(int[][] maze, Point goal, int count, long seed) {
+        Random rand = new Random(seed);
+        Point[] starts = new Point[count];
+        Point[] ends = new Point[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = randomOpenCell(maze, rand);
+            ends[i] = goal;
+        }
+        return new QueryWorkload(starts, ends);
+    }
+
+    private static Point randomOpenCell(int[][] maze, Random rand) {
+        while (true) {
+            int r = rand.nextInt(maze.length);
+            int c = rand.nextInt(maze[0].length);
+            if (maze[r][c] == 1) return new Point(r, c);
+        }
+    }
+
+    public int size() { return starts.length; }
+    public Point getStart(int i) { return starts[i]; }
+    public Point getEnd(int i) { return ends[i]; }
+
+    // Executa todas as consultas com o mesmo solver e acumula tempo e nós expandidos
+    public Result run(MazeSolver solver, int[][] maze) {
+        long nodes = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < starts.length; i++) {
+            solver.solve(maze, starts[i], ends[i]);
+            nodes += solver.getNodesExpanded();
+        }
+        return new Result(starts.length, System.nanoTime() - startTime, nodes);
+    }
+
+    public static final class Result {
+        private final int queries;
+        private final long nanos;
+        private final long nodesExpanded;
+
+        Result(int queries, long nanos, long nodesExpanded) {
+            this.queries = queries;
+            this.nanos = nanos;
+            this.nodesExpanded = nodesExpanded;
+        }
+
+        public int getQueries() { return queries; }
+        public long getNanos() { return nanos; }
+        public long getNodesExpanded() { return nodesExpanded; }
+
+        public double getQueriesPerSecond() {
+            return nanos == 0 ? 0 : queries * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package Maze;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Leitura em uma passada do arquivo gravado pelo ResultSink, com memória constante: os
+// registros são entregues a um Visitor à medida que são lidos. Um registro final incompleto
+// (processo interrompido no meio da gravação) é ignorado.
+//
+// Uso: ResultReader arquivo.bin [--csv amostras.csv] [--summary-csv resumo.csv]
+public final class ResultReader {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    public interface Visitor {
+        default void batch(String mazeSize, int batchCount, int threads) {
+        }
+
+        void result(String mazeName, String algorithmName, int threads, long nodesExpanded, long[] samplesNanos);
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long consumed; // Fim do último registro completo
+
+    private ResultReader(FileChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    // Lê o arquivo inteiro e devolve o tamanho da parte completa
+    public static long read(Path file, Visitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ResultReader(channel).readAll(visitor);
+        }
+    }
+
+    // Tamanho do arquivo sem o registro incompleto do fim, se houver
+    static long completeLength(Path file) throws IOException {
+        return read(file, (maze, algorithm, threads, nodes, samples) -> { });
+    }
+
+    private long readAll(Visitor visitor) throws IOException {
+        Map<Integer, String> names = new HashMap<>();
+        while (require(1)) {
+            byte type = buffer.get(buffer.position());
+            if (type == (byte) (ResultSink.MAGIC >>> 24)) {
+                // Cabeçalho de sessão: os ids de nomes recomeçam
+                if (!require(6)) break;
+                if (buffer.getInt() != ResultSink.MAGIC) throw new IOException("Arquivo de resultados inválido");
+                short version = buffer.getShort();
+                if (version != ResultSink.VERSION) throw new IOException("Versão não suportada: " + version);
+                names.clear();
+                consumed = offset();
+                continue;
+            }
+            if (!readRecord(type, names, visitor)) break;
+        }
+        return consumed;
+    }
+
+    // Devolve false se o arquivo acabou no meio do registro
+    private boolean readRecord(byte type, Map<Integer, String> names, Visitor visitor) throws IOException {
+        long start = consumed;
+        buffer.get();
+        switch (type) {
+            case ResultSink.BATCH: {
+                String size = readUtf();
+                if (size == null || !require(8)) return false;
+                int count = buffer.getInt();
+                int threads = buffer.getInt();
+                consumed = offset();
+                visitor.batch(size, count, threads);
+                return true;
+            }
+            case ResultSink.STRING: {
+                if (!require(4)) return false;
+                int id = buffer.getInt();
+                String text = readUtf();
+                if (text == null) return false;
+                names.put(id, text);
+                consumed = offset();
+                return true;
+            }
+            case ResultSink.RESULT: {
+                if (!require(4 + 4 + 2 + 8 + 4)) return false;
+                String maze = names.get(buffer.getInt());
+                String algorithm = names.get(buffer.getInt());
+                int threads = buffer.getShort();
+                long nodes = buffer.getLong();
+                int count = buffer.getInt();
+                if (maze == null || algorithm == null || count < 0) {
+                    throw new IOException("Registro de resultado corrompido na posição " + start);
+                }
+                long[] samples = new long[count];
+                for (int i = 0; i < count; i++) {
+                    if (!require(8)) return false;
+                    samples[i] = buffer.getLong();
+                }
+                consumed = offset();
+                visitor.result(maze, algorithm, threads, nodes, samples);
+                return true;
+            }
+            default:
+                throw new IOException("Tipo de registro desconhecido " + type + " na posição " + start);
+        }
+    }
+
+    private String readUtf() throws IOException {
+        if (!require(2)) return null;
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            if (!require(1)) return null;
+            int chunk = Math.min(length - read, buffer.remaining());
+            buffer.get(bytes, read, chunk);
+            read += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Posição no arquivo do próximo byte ainda não lido do buffer
+    private long offset() throws IOException {
+        return channel.position() - buffer.remaining();
+    }
+
+    // Garante "bytes" disponíveis no buffer lendo mais do canal; false no fim do arquivo
+    private boolean require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) return true;
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) return false;
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    // Resumo de um algoritmo com um número de threads em lotes de um tamanho de labirinto: média
+    // e desvio (Welford), extremos e percentis aproximados por um histograma logarítmico, sem
+    // guardar as amostras
+    public static final class Summary {
+        private final String mazeSize;
+        private final String algorithm;
+        private final int threads;
+        private final LogHistogram histogram = new LogHistogram();
+        private long results;
+        private long count;
+        private double mean;
+        private double m2;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private double nodesSum;
+
+        Summary(String mazeSize, String algorithm, int threads) {
+            this.mazeSize = mazeSize;
+            this.algorithm = algorithm;
+            this.threads = threads;
+        }
+
+        void add(long nodesExpanded, long[] samples) {
+            results++;
+            nodesSum += nodesExpanded;
+            for (long sample : samples) {
+                count++;
+                double delta = sample - mean;
+                mean += delta / count;
+                m2 += delta * (sample - mean);
+                min = Math.min(min, sample);
+                max = Math.max(max, sample);
+                histogram.record(sample);
+            }
+        }
+
+        public String getMazeSize() { return mazeSize; }
+        public String getAlgorithm() { return algorithm; }
+        public int getThreads() { return threads; }
+        public long getResults() { return results; }
+        public long getCount() { return count; }
+        public double getMean() { return mean; }
+        public double getStdDev() { return count < 2 ? 0 : Math.sqrt(m2 / (count - 1)); }
+        public long getMin() { return count == 0 ? 0 : min; }
+        public long getMax() { return count == 0 ? 0 : max; }
+        public long percentile(double p) { return histogram.percentile(p, count); }
+        public double getMeanNodes() { return results == 0 ? 0 : nodesSum / results; }
+    }
+
+    // Baldes com 64 subdivisões por potência de 2: erro relativo abaixo de 1,6%
+    private static final class LogHistogram {
+        private static final int SUB_BITS = 6;
+        private static final int SUB = 1 << SUB_BITS;
+        private final long[] counts = new long[SUB + (64 - SUB_BITS) * SUB];
+
+        void record(long value) {
+            counts[index(Math.max(0, value))]++;
+        }
+
+        private static int index(long value) {
+            if (value < SUB) return (int) value;
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int mantissa = (int) (value >>> (exponent - SUB_BITS)) - SUB;
+            return SUB + (exponent - SUB_BITS) * SUB + mantissa;
+        }
+
+        // Ponto médio do balde
+        private static long valueAt(int index) {
+            if (index < SUB) return index;
+            int exponent = (index - SUB) / SUB + SUB_BITS;
+            long mantissa = (index - SUB) % SUB + SUB;
+            long width = 1L << (exponent - SUB_BITS);
+            return mantissa * width + width / 2;
+        }
+
+        long percentile(double p, long total) {
+            if (total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return valueAt(i);
+            }
+            return valueAt(counts.length - 1);
+        }
+    }
+
+    // Um resumo por (tamanho do lote, algoritmo, threads), na ordem em que aparecem: lotes de
+    // tamanhos diferentes no mesmo arquivo não se misturam
+    public static List<Summary> summarize(Path file) throws IOException {
+        Map<List<Object>, Summary> summaries = new LinkedHashMap<>();
+        String[] size = {""};
+        read(file, new Visitor() {
+            @Override
+            public void batch(String mazeSize, int batchCount, int threads) {
+                size[0] = mazeSize;
+            }
+
+            @Override
+            public void result(String maze, String algorithm, int threads, long nodes, long[] samples) {
+                summaries.computeIfAbsent(Arrays.asList(size[0], algorithm, threads),
+                        k -> new Summary(size[0], algorithm, threads)).add(nodes, samples);
+            }
+        });
+        return new ArrayList<>(summaries.values());
+    }
+
+    // Uma linha por amostra, escrita enquanto o arquivo é lido
+    public static void exportCsv(Path file, Path csv) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write("lote,tamanho,labirinto,algoritmo,threads,repeticao,tempo_ns,nos_expandidos\n");
+            int[] batch = {0};
+            String[] size = {""};
+            read(file, new Visitor() {
+                @Override
+                public void batch(String mazeSize, int batchCount, int threads) {
+                    batch[0]++;
+                    size[0] = mazeSize;
+                }
+
+                @Override
+                public void result(String maze, String algorithm, int threads, long nodes, long[] samples) {
+                    try {
+                        for (int i = 0; i < samples.length; i++) {
+                            out.write(String.format(Locale.ROOT, "%d,%s,\"%s\",\"%s\",%d,%d,%d,%d%n",
+                                    batch[0], size[0], maze, algorithm, threads, i + 1, samples[i], nodes));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static void exportSummaryCsv(List<Summary> summaries, Path csv) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write("TAMANHO,ALGORITMO,THREADS,RESULTADOS,AMOSTRAS,MEDIA_NS,DESVIO_NS,P50_NS,P90_NS,P99_NS,MIN_NS,MAX_NS,MEDIA_NOS\n");
+            for (Summary s : summaries) {
+                out.write(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%d,%.1f,%.1f,%d,%d,%d,%d,%d,%.1f%n",
+                        s.getMazeSize(), s.getAlgorithm(), s.getThreads(), s.getResults(), s.getCount(), s.getMean(), s.getStdDev(),
+                        s.percentile(0.50), s.percentile(0.90), s.percentile(0.99), s.getMin(), s.getMax(),
+                        s.getMeanNodes()));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: ResultReader arquivo.bin [--csv amostras.csv] [--summary-csv resumo.csv]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        List<Summary> summaries = summarize(file);
+        System.out.printf("%-10s %-40s %7s %9s %12s %12s %12s %12s %12s%n",
+                "Tamanho", "Algoritmo", "Threads", "Amostras", "Média (ms)", "Desvio", "p50", "p90", "p99");
+        for (Summary s : summaries) {
+            System.out.printf("%-10s %-40s %7d %9d %12.3f %12.3f %12.3f %12.3f %12.3f%n", s.getMazeSize(),
+                    s.getAlgorithm(), s.getThreads(), s.getCount(),
+                    s.getMean() / 1e6, s.getStdDev() / 1e6, s.percentile(0.50) / 1e6,
+                    s.percentile(0.90) / 1e6, s.percentile(0.99) / 1e6);
+        }
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            Path out = Paths.get(args[i + 1]);
+            if (args[i].equals("--csv")) {
+                exportCsv(file, out);
+            } else if (args[i].equals("--summary-csv")) {
+                exportSummaryCsv(summaries, out);
+            }
+        }
+    }
+}
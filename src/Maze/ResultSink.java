@@ -0,0 +1,171 @@
+package Maze;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Gravação contínua dos resultados em um arquivo binário só de acréscimo. Os registros passam
+// por um buffer direto e vão para o FileChannel quando ele enche ou a cada FLUSH_INTERVAL_MS,
+// por um timer (mesmo que nenhum registro novo chegue durante um solve longo), então uma falha
+// do processo no meio de um lote perde no máximo o último segundo. Ao reabrir um
+// arquivo, um registro final incompleto (de uma falha) é cortado antes de continuar.
+//
+// Formato (big-endian): cada sessão começa com "MZRS" + versão (short) e segue com registros
+// identificados por um byte de tipo. Os ids de nomes valem só dentro da sessão:
+//   BATCH:  tamanho (utf), quantidade de labirintos (int), threads (int)
+//   STRING: id (int), texto (utf) — nomes de labirintos e algoritmos aparecem uma vez só
+//   RESULT: labirinto (int id), algoritmo (int id), threads (short), nós (long),
+//           n (int), n amostras em ns (long)
+// onde utf = comprimento (short) + bytes UTF-8.
+public class ResultSink implements Closeable {
+
+    static final int MAGIC = 0x4D5A5253; // "MZRS"
+    static final short VERSION = 1;
+    static final byte BATCH = 1;
+    static final byte STRING = 2;
+    static final byte RESULT = 3;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+
+    // Uma thread daemon faz o flush periódico de todos os sinks abertos
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "result-sink-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private int nextStringId;
+    private long recordsWritten;
+    private final ScheduledFuture<?> periodicFlush;
+
+    // Cria o arquivo ou continua um existente, abrindo uma nova sessão no fim dele
+    public ResultSink(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            long complete = channel.size() == 0 ? 0 : ResultReader.completeLength(file);
+            channel.truncate(complete);
+            channel.position(complete);
+        } catch (Throwable e) {
+            // Arquivo que não é um sink (ou ilegível): o canal recém-aberto não pode ficar aberto
+            try {
+                channel.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        buffer.putInt(MAGIC).putShort(VERSION);
+        periodicFlush = FLUSHER.scheduleWithFixedDelay(this::flushQuietly,
+                FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void beginBatch(String mazeSize, int batchCount, int threads) throws IOException {
+        byte[] size = utf(mazeSize);
+        ensureCapacity(1 + 2 + size.length + 8);
+        buffer.put(BATCH);
+        putUtf(size);
+        buffer.putInt(batchCount).putInt(threads);
+        recordsWritten++;
+    }
+
+    public synchronized void append(BenchmarkResult result) throws IOException {
+        int maze = stringId(result.getMazeName());
+        int algorithm = stringId(result.getAlgorithmName());
+        long[] samples = result.getSamplesNanos();
+        ensureCapacity(1 + 4 + 4 + 2 + 8 + 4 + 8L * samples.length);
+        buffer.put(RESULT).putInt(maze).putInt(algorithm)
+                .putShort((short) Math.min(result.getThreads(), Short.MAX_VALUE))
+                .putLong(result.getNodesExpanded())
+                .putInt(samples.length);
+        for (long sample : samples) {
+            if (buffer.remaining() < Long.BYTES) drain();
+            buffer.putLong(sample);
+        }
+        recordsWritten++;
+    }
+
+    // Id do nome; na primeira vez grava o registro STRING antes do resultado
+    private int stringId(String text) throws IOException {
+        Integer id = stringIds.get(text);
+        if (id != null) return id;
+        int newId = nextStringId++;
+        byte[] bytes = utf(text);
+        ensureCapacity(1 + 4 + 2 + bytes.length);
+        buffer.put(STRING).putInt(newId);
+        putUtf(bytes);
+        stringIds.put(text, newId);
+        return newId;
+    }
+
+    // Chamado pelo timer; um erro aqui volta a aparecer no próximo flush ou no close
+    private synchronized void flushQuietly() {
+        if (!channel.isOpen() || buffer.position() == 0) return;
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Erro no flush periódico dos resultados: " + e.getMessage());
+        }
+    }
+
+    // Registros grandes (muitas amostras) são gravados em partes pelo próprio append
+    private void ensureCapacity(long bytes) throws IOException {
+        if (buffer.remaining() < Math.min(bytes, BUFFER_BYTES)) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Passa o buffer para o sistema operacional (sobrevive a uma falha do processo)
+    public synchronized void flush() throws IOException {
+        drain();
+    }
+
+    public synchronized long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    // Esvazia o buffer e força a gravação em disco
+    @Override
+    public synchronized void close() throws IOException {
+        periodicFlush.cancel(false);
+        try {
+            flush();
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static byte[] utf(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Texto longo demais para o registro: " + text.length() + " caracteres");
+        }
+        return bytes;
+    }
+
+    private void putUtf(byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+}
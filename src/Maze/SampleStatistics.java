@@ -0,0 +1,66 @@
+package Maze;
+
+import java.util.Arrays;
+
+// Estatísticas de um conjunto de amostras de tempo em nanossegundos: média, desvio padrão
+// amostral, percentis (nearest-rank), mínimo, máximo e intervalo de confiança de 95% da média
+// pela distribuição t de Student.
+public final class SampleStatistics {
+
+    // t crítico bicaudal de 95% para 1..30 graus de liberdade
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private final long[] sorted;
+    private final double mean;
+    private final double stdDev;
+
+    private SampleStatistics(long[] sorted) {
+        this.sorted = sorted;
+        double sum = 0;
+        for (long sample : sorted) sum += sample;
+        this.mean = sorted.length == 0 ? 0 : sum / sorted.length;
+        double squares = 0;
+        for (long sample : sorted) squares += (sample - mean) * (sample - mean);
+        this.stdDev = sorted.length < 2 ? 0 : Math.sqrt(squares / (sorted.length - 1));
+    }
+
+    public static SampleStatistics of(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return new SampleStatistics(sorted);
+    }
+
+    public int getCount() { return sorted.length; }
+    public double getMean() { return mean; }
+    public double getStdDev() { return stdDev; }
+    public long getMin() { return sorted.length == 0 ? 0 : sorted[0]; }
+    public long getMax() { return sorted.length == 0 ? 0 : sorted[sorted.length - 1]; }
+
+    // Percentil p (entre 0 e 1) pelo método nearest-rank
+    public long percentile(double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(rank - 1, sorted.length - 1))];
+    }
+
+    // Meia largura do IC de 95%: a média verdadeira está em mean ± este valor
+    public double getConfidenceHalfWidth() {
+        int n = sorted.length;
+        if (n < 2) return 0;
+        return tCritical(n - 1) * stdDev / Math.sqrt(n);
+    }
+
+    // Acima de 30 graus de liberdade cada faixa usa o t do seu início (o maior da faixa), então o
+    // intervalo nunca fica mais estreito que o exato
+    private static double tCritical(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) return T_95[degreesOfFreedom - 1];
+        if (degreesOfFreedom <= 40) return 2.040;   // t(31)
+        if (degreesOfFreedom <= 60) return 2.020;   // t(41)
+        if (degreesOfFreedom <= 120) return 2.000;  // t(61)
+        return 1.980;                               // t(121)
+    }
+}
@@ -0,0 +1,108 @@
+package Maze;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+// Arrays de busca (g, pais, fechados e a lista aberta) reaproveitados entre solves. Ficam em um
+// pool limitado compartilhado por todas as threads (inclusive virtuais): a busca pega um
+// emprestado (acquire) e o devolve ao terminar (release). Um workspace nunca devolvido (ex.: uma
+// animação abandonada) só deixa de ser reaproveitado e é coletado junto com o solver. Em vez de
+// preencher tudo a cada busca, cada célula guarda a geração em que foi escrita: valores de
+// gerações antigas valem como "não visitado", então começar uma nova busca custa O(1) mais as
+// células tocadas.
+public final class SearchWorkspace {
+
+    public static final int INFINITY = Integer.MAX_VALUE;
+
+    // Ociosos guardados no pool; acima disso o workspace devolvido é descartado
+    private static final int MAX_IDLE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static final ConcurrentLinkedDeque<SearchWorkspace> IDLE = new ConcurrentLinkedDeque<>();
+
+    private int[] gScore = new int[0];
+    private int[] parent = new int[0];
+    private int[] gStamp = new int[0];       // Geração em que g/pai da célula foram escritos
+    private int[] closedStamp = new int[0];  // Geração em que a célula foi fechada
+    private int generation;
+    private int closedGeneration;            // Avança também em clearClosed()
+    private final IndexedMinHeap openSet = new IndexedMinHeap(1024);
+    private boolean idle;
+
+    // Workspace exclusivo de quem pediu; o mais recente devolvido ao pool vem primeiro (LIFO),
+    // porque costuma estar quente no cache e já ter o tamanho do labirinto atual
+    public static SearchWorkspace acquire() {
+        SearchWorkspace workspace = IDLE.pollFirst();
+        if (workspace == null) {
+            return new SearchWorkspace();
+        }
+        workspace.idle = false;
+        return workspace;
+    }
+
+    // Uma segunda devolução do mesmo workspace é ignorada
+    public void release() {
+        if (idle) return;
+        idle = true;
+        if (IDLE.size() < MAX_IDLE) {
+            IDLE.offerFirst(this);
+        }
+    }
+
+    // Começa uma nova busca em um labirinto com "cells" células
+    public void begin(int cells) {
+        if (gScore.length < cells) {
+            gScore = new int[cells];
+            parent = new int[cells];
+            gStamp = new int[cells];
+            closedStamp = new int[cells];
+            generation = 0;
+            closedGeneration = 0;
+        }
+        if (++generation == Integer.MAX_VALUE) {
+            // Depois de 2^31 buscas os carimbos antigos poderiam colidir: zera tudo uma vez
+            Arrays.fill(gStamp, 0);
+            generation = 1;
+        }
+        clearClosed();
+        openSet.reset(cells);
+    }
+
+    // Reabre todas as células mantendo g e pais (ARA* entre iterações)
+    public void clearClosed() {
+        if (++closedGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(closedStamp, 0);
+            closedGeneration = 1;
+        }
+    }
+
+    public int g(int cell) {
+        return gStamp[cell] == generation ? gScore[cell] : INFINITY;
+    }
+
+    public void set(int cell, int g, int parentCell) {
+        gScore[cell] = g;
+        parent[cell] = parentCell;
+        gStamp[cell] = generation;
+    }
+
+    public boolean isClosed(int cell) {
+        return closedStamp[cell] == closedGeneration;
+    }
+
+    public void close(int cell) {
+        closedStamp[cell] = closedGeneration;
+    }
+
+    public IndexedMinHeap openSet() {
+        return openSet;
+    }
+
+    // Vetor de pais (válido só para células com g definido nesta geração)
+    public int[] parents() {
+        return parent;
+    }
+
+    public int capacity() {
+        return gScore.length;
+    }
+}
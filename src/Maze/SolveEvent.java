@@ -0,0 +1,44 @@
+package Maze;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento do JFR para cada solve medido. Só é gravado quando há uma gravação ativa com o evento
+// habilitado (por exemplo, java -XX:StartFlightRecording ...); fora disso o custo é um objeto
+// e duas leituras de relógio por solve.
+@Name("maze.Solve")
+@Label("Solve de labirinto")
+@Category("Labirinto")
+class SolveEvent extends Event {
+
+    @Label("Algoritmo")
+    String algorithm;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Nós expandidos")
+    long nodesExpanded;
+
+    @Label("Pushes")
+    long pushes;
+
+    @Label("Pops")
+    long pops;
+
+    @Label("Pushes duplicados")
+    long duplicatePushes;
+
+    @Label("Pico da lista aberta")
+    long peakOpenSize;
+
+    @Label("CAS perdidos")
+    long casFailures;
+
+    @Label("Alocado")
+    @DataAmount
+    long allocatedBytes;
+}
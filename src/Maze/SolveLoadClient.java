@@ -0,0 +1,122 @@
+package Maze;
+
+import java.awt.Point;
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Gerador de carga para o SolveServer: N clientes concorrentes enviam consultas aleatórias sobre
+// alguns labirintos fixos e medem a latência de cada requisição (p50, p90, p99 e máxima)
+//
+// Uso: SolveLoadClient [porta] [concorrência] [requisições] [tamanho] [labirintos] [consultas por requisição]
+public class SolveLoadClient {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int port = intArg(args, 0, SolveServer.DEFAULT_PORT);
+        int concurrency = intArg(args, 1, 32);
+        int requestCount = intArg(args, 2, 5000);
+        int size = intArg(args, 3, 200);
+        int mazeCount = intArg(args, 4, 4);
+        int queriesPerRequest = intArg(args, 5, 1);
+
+        // Cada labirinto é codificado uma vez; as requisições só acrescentam as consultas
+        List<int[][]> mazes = new ArrayList<>();
+        List<byte[]> encodedMazes = new ArrayList<>();
+        for (int i = 0; i < mazeCount; i++) {
+            Maze maze = new Maze(size, size);
+            maze.generate();
+            mazes.add(maze.getMaze());
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            MazeCodec.write(maze.getMaze(), new DataOutputStream(buffer));
+            encodedMazes.add(buffer.toByteArray());
+        }
+
+        URL url = new URL("http://localhost:" + port + "/solve");
+        long[] latencies = new long[requestCount];
+        int[] failures = new int[1];
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        long startTime = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                Random rand = new Random(client);
+                for (int r = client; r < requestCount; r += concurrency) {
+                    int m = rand.nextInt(mazeCount);
+                    QueryWorkload workload = QueryWorkload.towards(mazes.get(m),
+                            new Point(size - 3, size - 3), queriesPerRequest, rand.nextLong());
+                    long sent = System.nanoTime();
+                    try {
+                        send(url, encodedMazes.get(m), workload);
+                    } catch (IOException e) {
+                        synchronized (failures) {
+                            failures[0]++;
+                        }
+                    }
+                    latencies[r] = System.nanoTime() - sent;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%d requisições (%d consultas cada), %d clientes, labirintos %dx%d%n",
+                requestCount, queriesPerRequest, concurrency, size, size);
+        System.out.printf("Vazão: %.1f requisições/s, falhas: %d%n",
+                requestCount * 1_000_000_000.0 / elapsed, failures[0]);
+        System.out.printf("Latência (ms): p50 %.3f  p90 %.3f  p99 %.3f  máx %.3f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    // Envia uma requisição e confere se cada caminho vai do início ao fim pedidos
+    private static void send(URL url, byte[] encodedMaze, QueryWorkload workload) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+            out.write(encodedMaze);
+            out.writeInt(workload.size());
+            for (int i = 0; i < workload.size(); i++) {
+                Point start = workload.getStart(i);
+                Point end = workload.getEnd(i);
+                out.writeInt(start.x);
+                out.writeInt(start.y);
+                out.writeInt(end.x);
+                out.writeInt(end.y);
+            }
+        }
+        if (connection.getResponseCode() != 200) {
+            throw new IOException("HTTP " + connection.getResponseCode());
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                List<Point> path = PathCodec.decode(encoded);
+                if (path.isEmpty() || !path.get(0).equals(workload.getStart(i))
+                        || !path.get(path.size() - 1).equals(workload.getEnd(i))) {
+                    throw new IOException("Caminho inválido na consulta " + i);
+                }
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static int intArg(String[] args, int index, int fallback) {
+        return args.length > index ? Integer.parseInt(args[index]) : fallback;
+    }
+}
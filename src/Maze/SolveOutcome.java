@@ -0,0 +1,8 @@
+package Maze;
+
+public enum SolveOutcome {
+    SOLVED,      // Caminho encontrado
+    NO_PATH,     // Busca terminou sem caminho entre início e fim
+    CANCELLED,   // Interrompida por CancellationToken.cancel()
+    TIMED_OUT    // Interrompida porque o prazo do token acabou
+}
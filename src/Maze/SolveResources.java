@@ -0,0 +1,61 @@
+package Maze;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Bytes alocados e coletas de lixo da JVM em um instante; since() dá a diferença em relação a
+// uma captura anterior. A alocação soma todas as threads vivas (os pools do SolverExecutors
+// duram entre solves, então o trabalho dos workers entra na conta); threads que terminam no
+// meio do intervalo ficam de fora. O GC conta as coletas que terminaram durante o intervalo e o
+// tempo acumulado de coleta informado pelos coletores (GarbageCollectorMXBean.getCollectionTime).
+// Esse tempo não é pausa: em coletores concorrentes ele inclui trabalho feito junto com a
+// aplicação, e o que é informado varia de coletor para coletor.
+public final class SolveResources {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+
+    private SolveResources(long allocatedBytes, long gcCount, long gcMillis) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    public static SolveResources capture() {
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        return new SolveResources(allocatedBytes(), gcCount, gcMillis);
+    }
+
+    public SolveResources since(SolveResources start) {
+        return new SolveResources(Math.max(0, allocatedBytes - start.allocatedBytes),
+                gcCount - start.gcCount, gcMillis - start.gcMillis);
+    }
+
+    private static long allocatedBytes() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return 0;
+        }
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes; // -1 = thread terminou entre as duas chamadas
+        }
+        return total;
+    }
+
+    public long getAllocatedBytes() { return allocatedBytes; }
+    public long getGcCount() { return gcCount; }
+    public long getGcCollectionMillis() { return gcMillis; }
+}
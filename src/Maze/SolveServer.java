@@ -0,0 +1,334 @@
+package Maze;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.awt.Point;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Serviço local de resolução (sem interface gráfica), só em localhost. POST /solve recebe um
+// labirinto no formato do MazeCodec seguido das consultas e devolve os caminhos no formato do
+// PathCodec. Cada requisição roda em uma thread virtual quando a JVM tem suporte (senão em um
+// pool de threads comum). Requisições que chegam quase juntas para o mesmo labirinto
+// (mesmo fingerprint) entram no mesmo lote: consultas para um mesmo fim compartilham um
+// campo de distâncias, e o labirinto canônico mantém o cache de campos válido entre lotes.
+//
+// Requisição: labirinto, int n, n x (linha início, coluna início, linha fim, coluna fim)
+// Resposta:   int n, n x (int tamanho, bytes do PathCodec); tamanho 0 = sem caminho
+public class SolveServer {
+
+    public static final int DEFAULT_PORT = 8085;
+
+    private static final long BATCH_WINDOW_NANOS = 500_000;     // Espera do líder por outras requisições
+    private static final int MAX_BATCH_QUERIES = 256;           // Lote cheio fecha antes da janela
+    private static final int MAX_QUERIES_PER_REQUEST = 100_000;
+    private static final int MAX_CANONICAL_MAZES = 64;
+    private static final int FIELD_MIN_QUERIES = 2;             // Consultas por fim para valer o campo
+    private static final long FIELD_CACHE_BYTES = 256L * 1024 * 1024;
+
+    // O HttpServer do JDK manda cabeçalhos e corpo em escritas separadas; com o algoritmo de Nagle
+    // ligado, cada resposta espera o ACK atrasado do cliente (~40 ms). Lido uma vez pelo JDK, então
+    // precisa vir antes do primeiro HttpServer.create; um -D na linha de comando tem precedência
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static final class Query {
+        final Point start;
+        final Point end;
+        final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        Query(Point start, Point end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    // Labirinto canônico de um fingerprint, com as linhas empacotadas (para conferir colisões)
+    // e o MazeGrid reaproveitado por todos os lotes dele
+    private static final class Canonical {
+        final int[][] maze;
+        final long[] packed;
+        final MazeGrid grid;
+
+        Canonical(int[][] maze, long[] packed) {
+            this.maze = maze;
+            this.packed = packed;
+            this.grid = new MazeGrid(maze);
+        }
+
+        boolean sameAs(int[][] other, long[] otherPacked) {
+            return maze.length == other.length && maze[0].length == other[0].length
+                    && Arrays.equals(packed, otherPacked);
+        }
+    }
+
+    private static final class Batch {
+        final long fingerprint;
+        final Canonical canonical;
+        final List<Query> queries = new ArrayList<>();
+        boolean hasLeader;
+        boolean closed;
+
+        Batch(long fingerprint, Canonical canonical) {
+            this.fingerprint = fingerprint;
+            this.canonical = canonical;
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final ConcurrentHashMap<Long, Batch> openBatches = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Long, Canonical> canonicalMazes = new LinkedHashMap<>(16, 0.75f, true);
+    private final DistanceFieldCache fieldCache;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder fieldQueries = new LongAdder();
+
+    public SolveServer(int port) throws IOException {
+        this.fieldCache = new DistanceFieldCache(FIELD_CACHE_BYTES, Runtime.getRuntime().availableProcessors());
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "solve-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/stats", this::handleStats);
+        server.setExecutor(executor);
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() só existe a partir do Java 21; a reflexão
+    // permite compilar e rodar em versões anteriores
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendText(exchange, 405, "Use POST");
+                return;
+            }
+            int[][] maze;
+            List<Query> received;
+            try {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(exchange.getRequestBody()));
+                maze = MazeCodec.read(in);
+                received = readQueries(in, maze);
+            } catch (IOException | IllegalArgumentException e) {
+                sendText(exchange, 400, "Requisição inválida: " + e.getMessage());
+                return;
+            }
+            requests.increment();
+            queries.add(received.size());
+
+            submit(maze, received);
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeInt(received.size());
+            for (Query query : received) {
+                byte[] encoded = query.result.join();
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            out.flush();
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, buffer.size());
+            buffer.writeTo(exchange.getResponseBody());
+        } catch (CompletionException e) {
+            sendText(exchange, 500, "Erro ao resolver: " + e.getCause());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static List<Query> readQueries(DataInputStream in, int[][] maze) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_QUERIES_PER_REQUEST) {
+            throw new IllegalArgumentException("número de consultas inválido: " + count);
+        }
+        List<Query> received = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Point start = new Point(in.readInt(), in.readInt());
+            Point end = new Point(in.readInt(), in.readInt());
+            if (!inside(maze, start) || !inside(maze, end)) {
+                throw new IllegalArgumentException("célula fora do labirinto na consulta " + i);
+            }
+            received.add(new Query(start, end));
+        }
+        return received;
+    }
+
+    private static boolean inside(int[][] maze, Point p) {
+        return p.x >= 0 && p.x < maze.length && p.y >= 0 && p.y < maze[0].length;
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            sendText(exchange, 200, String.format(
+                    "requisicoes=%d consultas=%d lotes=%d consultas_por_campo=%d cache_campos_acertos=%d cache_campos_faltas=%d threads_virtuais=%b%n",
+                    requests.sum(), queries.sum(), batches.sum(), fieldQueries.sum(),
+                    fieldCache.getHits(), fieldCache.getMisses(), virtualThreads));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    // Junta as consultas ao lote aberto do labirinto. A primeira requisição do lote é a líder:
+    // espera a janela, fecha o lote e resolve tudo; as outras só aguardam seus resultados
+    private void submit(int[][] maze, List<Query> received) {
+        if (received.isEmpty()) {
+            return;
+        }
+        long[] packed = MazeFingerprint.pack(maze);
+        long fingerprint = MazeFingerprint.of(maze.length, maze[0].length, packed);
+        Canonical canonical = canonicalMaze(fingerprint, maze, packed);
+        if (canonical == null) {
+            // Colisão de fingerprint com outro labirinto: resolve sozinho, sem lote
+            solveBatch(new Canonical(maze, packed), received);
+            return;
+        }
+        while (true) {
+            Batch batch = openBatches.computeIfAbsent(fingerprint, f -> new Batch(f, canonical));
+            boolean leader;
+            synchronized (batch) {
+                if (batch.closed) continue;
+                leader = !batch.hasLeader;
+                batch.hasLeader = true;
+                batch.queries.addAll(received);
+                if (batch.queries.size() >= MAX_BATCH_QUERIES) {
+                    // Cheio: novas requisições abrem outro lote, o líder ainda resolve este
+                    batch.closed = true;
+                    openBatches.remove(fingerprint, batch);
+                }
+            }
+            if (leader) {
+                LockSupport.parkNanos(BATCH_WINDOW_NANOS);
+                List<Query> collected;
+                synchronized (batch) {
+                    batch.closed = true;
+                    openBatches.remove(fingerprint, batch);
+                    collected = new ArrayList<>(batch.queries);
+                }
+                solveBatch(batch.canonical, collected);
+            }
+            return;
+        }
+    }
+
+    // Mesma instância para labirintos de mesmo conteúdo, para que o cache de campos (que usa a
+    // identidade da matriz) acerte entre requisições. A colisão é conferida pelas linhas
+    // empacotadas, já calculadas para o fingerprint. Devolve null se o fingerprint colidir
+    private Canonical canonicalMaze(long fingerprint, int[][] maze, long[] packed) {
+        synchronized (canonicalMazes) {
+            Canonical existing = canonicalMazes.get(fingerprint);
+            if (existing != null) {
+                return existing.sameAs(maze, packed) ? existing : null;
+            }
+            Canonical canonical = new Canonical(maze, packed);
+            canonicalMazes.put(fingerprint, canonical);
+            if (canonicalMazes.size() > MAX_CANONICAL_MAZES) {
+                Iterator<Canonical> eldest = canonicalMazes.values().iterator();
+                fieldCache.invalidate(eldest.next().maze);
+                eldest.remove();
+            }
+            return canonical;
+        }
+    }
+
+    // Agrupa por fim: vários inícios para o mesmo fim usam o campo de distâncias, consultas
+    // isoladas usam o A* indexado. Toda consulta sai daqui com o futuro completo, mesmo se um
+    // Error interromper o lote, para nenhuma requisição ficar esperando para sempre
+    private void solveBatch(Canonical canonical, List<Query> batch) {
+        batches.increment();
+        int[][] maze = canonical.maze;
+        MazeGrid grid = canonical.grid;
+        Throwable failure = null;
+        try {
+            Map<Integer, List<Query>> byGoal = new HashMap<>();
+            for (Query query : batch) {
+                byGoal.computeIfAbsent(grid.index(query.end), g -> new ArrayList<>()).add(query);
+            }
+            DistanceFieldSolver fieldSolver = new DistanceFieldSolver(fieldCache);
+            AStarIndexedSolver aStar = new AStarIndexedSolver();
+            for (List<Query> group : byGoal.values()) {
+                boolean useField = group.size() >= FIELD_MIN_QUERIES;
+                MazeSolver solver = useField ? fieldSolver : aStar;
+                for (Query query : group) {
+                    if (!grid.isOpen(grid.index(query.start)) || !grid.isOpen(grid.index(query.end))) {
+                        query.result.complete(new byte[0]);
+                        continue;
+                    }
+                    solver.solve(maze, query.start, query.end);
+                    query.result.complete(PathCodec.encode(solver.getSolutionPath()));
+                }
+                if (useField) fieldQueries.add(group.size());
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            for (Query query : batch) {
+                if (!query.result.isDone()) {
+                    query.result.completeExceptionally(failure != null ? failure
+                            : new IllegalStateException("Lote encerrado sem resolver a consulta"));
+                }
+            }
+        }
+    }
+
+    // Uso: SolveServer [porta]
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        SolveServer server = new SolveServer(port);
+        server.start();
+        System.out.println("Servidor de resolução em http://localhost:" + server.getPort() + "/solve"
+                + (server.usesVirtualThreads() ? " (threads virtuais)" : " (pool de threads)"));
+    }
+}
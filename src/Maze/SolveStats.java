@@ -0,0 +1,42 @@
+package Maze;
+
+// Resumo de uma chamada a solve com cancelamento. Em execuções interrompidas os números
+// são parciais: o que foi expandido até o ponto em que o token foi visto
+public final class SolveStats {
+
+    private final SolveOutcome outcome;
+    private final long nodesExpanded;
+    private final int bestF;          // Maior f retirado da lista aberta (-1 se o solver não informa)
+    private final long elapsedNanos;
+
+    public SolveStats(SolveOutcome outcome, long nodesExpanded, int bestF, long elapsedNanos) {
+        this.outcome = outcome;
+        this.nodesExpanded = nodesExpanded;
+        this.bestF = bestF;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Resultado de uma busca que chegou ao fim, com ou sem caminho
+    static SolveStats finished(MazeSolver solver, int bestF, long startNanos) {
+        SolveOutcome outcome = solver.getSolutionPath().isEmpty() ? SolveOutcome.NO_PATH : SolveOutcome.SOLVED;
+        return new SolveStats(outcome, solver.getNodesExpanded(), bestF, System.nanoTime() - startNanos);
+    }
+
+    static SolveStats interrupted(CancellationToken token, long nodesExpanded, int bestF, long startNanos) {
+        return new SolveStats(token.interruptedOutcome(), nodesExpanded, bestF, System.nanoTime() - startNanos);
+    }
+
+    public SolveOutcome getOutcome() { return outcome; }
+    public long getNodesExpanded() { return nodesExpanded; }
+    public int getBestF() { return bestF; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public boolean isInterrupted() {
+        return outcome == SolveOutcome.CANCELLED || outcome == SolveOutcome.TIMED_OUT;
+    }
+
+    @Override
+    public String toString() {
+        return outcome + " (" + nodesExpanded + " nós, melhor f " + bestF + ", " + elapsedNanos / 1_000_000 + " ms)";
+    }
+}
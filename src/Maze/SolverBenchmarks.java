@@ -0,0 +1,254 @@
+package Maze;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+// Microbenchmarks no estilo do JMH, sem dependências: alternativa à suíte JMH do módulo
+// benchmarks (mvn -Pjmh package) para quando o JMH não pode ser baixado. Cada caso roda em JVMs
+// separadas (forks), com iterações de aquecimento descartadas antes das medidas, e os dados
+// (labirintos já gerados) ficam em fixtures criadas antes do relógio começar. O resultado de cada operação é consumido
+// por um "sumidouro" volátil para o JIT não eliminar o trabalho.
+//
+// Casos: solve de cada solver do SolverRegistry por tamanho e threads, Maze.generate() e a
+// expansão de vizinhos do MazeGrid.
+//
+// Uso: SolverBenchmarks [--filter regex] [--forks 2] [--warmup 5] [--iterations 5]
+//                       [--iteration-ms 500] [--sizes 100,400] [--threads 1,4] [--output arquivo.csv]
+public class SolverBenchmarks {
+
+    private static final int MAZES_PER_FIXTURE = 8;     // Labirintos alternados a cada operação
+    private static final int NEIGHBOR_BATCH = 1024;     // Células por operação no benchmark de vizinhos
+    private static final String ITERATION_PREFIX = "ITERACAO ";
+
+    private static volatile long sink;
+
+    // Uma operação medida; o valor devolvido vai para o sumidouro
+    private interface Operation {
+        long run();
+    }
+
+    private static final class Case {
+        final String name;
+        final Supplier<Operation> fixture;
+
+        Case(String name, Supplier<Operation> fixture) {
+            this.name = name;
+            this.fixture = fixture;
+        }
+    }
+
+    private static final class Options {
+        Pattern filter = Pattern.compile(".*");
+        int forks = 2;
+        int warmup = 5;
+        int iterations = 5;
+        long iterationMs = 500;
+        int[] sizes = {100, 400};
+        int[] threads = {1, Runtime.getRuntime().availableProcessors()};
+        String output;
+        String child;           // Caso executado por este processo quando ele é um fork
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        Options options = parse(args);
+        List<Case> cases = cases(options);
+
+        if (options.child != null) {
+            // Processo filho: roda um caso e escreve o tempo de cada iteração medida
+            for (double nanosPerOp : measure(find(cases, options.child), options)) {
+                System.out.println(ITERATION_PREFIX + nanosPerOp);
+            }
+            return;
+        }
+
+        PrintWriter csv = options.output == null ? null : new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(options.output), StandardCharsets.UTF_8));
+        if (csv != null) {
+            csv.println("benchmark,forks,samples,mean_ns_per_op,stddev_ns,min_ns,max_ns");
+        }
+        System.out.printf("%-50s %8s %14s %12s%n", "Benchmark", "Amostras", "Média (ns/op)", "Desvio");
+        for (Case benchmark : cases) {
+            if (!options.filter.matcher(benchmark.name).find()) continue;
+            List<Double> samples = new ArrayList<>();
+            if (options.forks == 0) {
+                samples.addAll(measure(benchmark, options));
+            } else {
+                for (int f = 0; f < options.forks; f++) {
+                    samples.addAll(fork(benchmark, args));
+                }
+            }
+            double mean = samples.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            double variance = samples.stream().mapToDouble(s -> (s - mean) * (s - mean)).sum()
+                    / Math.max(1, samples.size() - 1);
+            double stddev = Math.sqrt(variance);
+            System.out.printf("%-50s %8d %14.1f %12.1f%n", benchmark.name, samples.size(), mean, stddev);
+            if (csv != null) {
+                csv.printf(Locale.ROOT, "\"%s\",%d,%d,%.1f,%.1f,%.1f,%.1f%n", benchmark.name, options.forks,
+                        samples.size(), mean, stddev, Collections.min(samples), Collections.max(samples));
+                csv.flush();
+            }
+        }
+        if (csv != null) {
+            csv.close();
+        }
+    }
+
+    private static Options parse(String[] args) {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Opção sem valor: " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--filter": options.filter = Pattern.compile(value); break;
+                case "--forks": options.forks = Integer.parseInt(value); break;
+                case "--warmup": options.warmup = Integer.parseInt(value); break;
+                case "--iterations": options.iterations = Math.max(1, Integer.parseInt(value)); break;
+                case "--iteration-ms": options.iterationMs = Long.parseLong(value); break;
+                case "--sizes": options.sizes = parseInts(value); break;
+                case "--threads": options.threads = parseInts(value); break;
+                case "--output": options.output = value; break;
+                case "--child": options.child = value; break;
+                default: throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+        return options;
+    }
+
+    private static int[] parseInts(String list) {
+        return Arrays.stream(list.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static List<Case> cases(Options options) {
+        List<Case> cases = new ArrayList<>();
+        for (int size : options.sizes) {
+            for (String name : SolverRegistry.names()) {
+                Set<String> labels = new HashSet<>();
+                for (int threads : options.threads) {
+                    // Solvers que ignoram o número de threads aparecem uma vez só
+                    if (!labels.add(SolverRegistry.label(name, threads))) continue;
+                    cases.add(new Case("solve/" + name + "/" + size + "/" + threads + "t",
+                            () -> solveFixture(name, threads, size)));
+                }
+            }
+            cases.add(new Case("generate/" + size, () -> generateFixture(size)));
+            cases.add(new Case("neighbors/" + size, () -> neighborFixture(size)));
+        }
+        return cases;
+    }
+
+    private static Case find(List<Case> cases, String name) {
+        for (Case c : cases) {
+            if (c.name.equals(name)) return c;
+        }
+        throw new IllegalArgumentException("Benchmark desconhecido: " + name);
+    }
+
+    // Labirintos gerados com sementes fixas antes da medida; cada operação resolve o próximo
+    private static Operation solveFixture(String name, int threads, int size) {
+        Maze[] mazes = new Maze[MAZES_PER_FIXTURE];
+        for (int i = 0; i < mazes.length; i++) {
+            mazes[i] = new Maze(size, size, i + 1);
+            mazes[i].generate();
+        }
+        MazeSolver solver = SolverRegistry.create(name, threads);
+        int[] next = new int[1];
+        return () -> {
+            Maze maze = mazes[next[0]++ % mazes.length];
+            solver.solve(maze.getMaze(), maze.getStart(), maze.getEnd());
+            return solver.getNodesExpanded() + solver.getSolutionPath().size();
+        };
+    }
+
+    private static Operation generateFixture(int size) {
+        long[] seed = new long[1];
+        return () -> {
+            Maze maze = new Maze(size, size, ++seed[0]);
+            maze.generate();
+            return maze.getMaze()[size / 2][size / 2];
+        };
+    }
+
+    // Cada operação expande NEIGHBOR_BATCH células abertas sorteadas
+    private static Operation neighborFixture(int size) {
+        Maze maze = new Maze(size, size, 1);
+        maze.generate();
+        MazeGrid grid = new MazeGrid(maze.getMaze());
+        int[] open = new int[grid.size()];
+        int openCount = 0;
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (grid.isOpen(cell)) open[openCount++] = cell;
+        }
+        int[] cells = new int[NEIGHBOR_BATCH];
+        Random rand = new Random(1);
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = open[rand.nextInt(openCount)];
+        }
+        int[] buffer = new int[4];
+        return () -> {
+            long total = 0;
+            for (int cell : cells) {
+                int count = grid.neighbors(cell, buffer);
+                for (int i = 0; i < count; i++) total += buffer[i];
+            }
+            return total;
+        };
+    }
+
+    // Aquecimento e medida no processo atual; devolve ns/op de cada iteração medida
+    private static List<Double> measure(Case benchmark, Options options) {
+        Operation operation = benchmark.fixture.get();
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < options.warmup + options.iterations; i++) {
+            long deadline = System.nanoTime() + options.iterationMs * 1_000_000;
+            long ops = 0;
+            long acc = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                acc += operation.run();
+                ops++;
+                now = System.nanoTime();
+            } while (now < deadline);
+            sink += acc;
+            if (i >= options.warmup) {
+                samples.add((double) (now - start) / ops);
+            }
+        }
+        return samples;
+    }
+
+    // Roda o caso em uma JVM nova (mesmas opções da JVM, como -Xmx e -Dmaze.metrics, mesmo
+    // classpath e argumentos) e lê as iterações medidas
+    private static List<Double> fork(Case benchmark, String[] args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(SolverBenchmarks.class.getName());
+        command.addAll(Arrays.asList(args));
+        command.add("--child");
+        command.add(benchmark.name);
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        List<Double> samples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ITERATION_PREFIX)) {
+                    samples.add(Double.parseDouble(line.substring(ITERATION_PREFIX.length())));
+                }
+            }
+        }
+        if (process.waitFor() != 0 || samples.isEmpty()) {
+            throw new IOException("Fork de " + benchmark.name + " falhou (código " + process.exitValue() + ")");
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,84 @@
+package Maze;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Executores de vida longa compartilhados pelos solvers. Em vez de criar e desligar um
+// ForkJoinPool a cada solve, o solver pega um pool emprestado (acquire) e o devolve (release).
+// Cada empréstimo é exclusivo: solvers que esperam todos os seus workers rodando ao mesmo tempo
+// (HDA*, MultiQueue) nunca disputam threads com outra busca simultânea.
+public final class SolverExecutors {
+
+    private static final int MAX_IDLE_POOLS = 4; // Pools ociosos guardados por paralelismo
+
+    private static final Map<Integer, ConcurrentLinkedDeque<ForkJoinPool>> IDLE = new ConcurrentHashMap<>();
+
+    // Executor para tarefas independentes (por exemplo, os membros de um portfólio)
+    private static final ExecutorService TASKS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "solver-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SolverExecutors() {
+    }
+
+    // Pool com o paralelismo pedido, reaproveitado de um solve anterior quando possível
+    public static ForkJoinPool acquire(int parallelism) {
+        ForkJoinPool pool = IDLE.computeIfAbsent(parallelism, p -> new ConcurrentLinkedDeque<>()).pollFirst();
+        return pool != null ? pool : new ForkJoinPool(parallelism);
+    }
+
+    // Devolve o pool; acima do limite de ociosos ele é desligado
+    public static void release(ForkJoinPool pool) {
+        ConcurrentLinkedDeque<ForkJoinPool> idle = IDLE.computeIfAbsent(pool.getParallelism(), p -> new ConcurrentLinkedDeque<>());
+        if (idle.size() < MAX_IDLE_POOLS) {
+            idle.offerFirst(pool);
+        } else {
+            pool.shutdown();
+        }
+    }
+
+    // Espera todos os workers de um solve. Na primeira falha (ou se a thread chamadora for
+    // interrompida) chama "stop" para os outros saírem e continua esperando, para que o pool só
+    // volte ao release sem nada rodando. A falha de um worker é relançada como exceção não
+    // verificada; a interrupção só é restaurada na thread
+    public static void awaitAll(List<? extends Future<?>> tasks, Runnable stop) {
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (Future<?> task : tasks) {
+            while (true) {
+                try {
+                    task.get();
+                    break;
+                } catch (InterruptedException e) {
+                    if (!interrupted) stop.run();
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                        stop.run();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        if (failure != null) throw new IllegalStateException(failure);
+    }
+
+    public static ExecutorService tasks() {
+        return TASKS;
+    }
+}
@@ -0,0 +1,136 @@
+package Maze;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores do caminho quente de um solver: pushes, pops, duplicados, pico da lista aberta,
+// CAS perdidos, tryLock falhos e tempo em seções com lock. Só são atualizados com -Dmaze.metrics=true.
+// ENABLED é uma constante static final, então com a flag desligada o JIT remove os
+// "if (ENABLED)" dos solvers e o custo é zero. Os contadores são LongAdder porque os solvers
+// paralelos os atualizam de várias threads.
+public final class SolverMetrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("maze.metrics");
+
+    // Devolvido por solvers não instrumentados; nunca é incrementado
+    static final SolverMetrics EMPTY = new SolverMetrics();
+
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder pops = new LongAdder();
+    private final LongAdder duplicatePushes = new LongAdder();
+    private final LongAccumulator peakOpenSize = new LongAccumulator(Long::max, 0);
+    private final LongAdder casFailures = new LongAdder();
+    private final LongAdder lockFailures = new LongAdder();
+    private final LongAdder lockedNanos = new LongAdder();
+
+    public void reset() {
+        pushes.reset();
+        pops.reset();
+        duplicatePushes.reset();
+        peakOpenSize.reset();
+        casFailures.reset();
+        lockFailures.reset();
+        lockedNanos.reset();
+    }
+
+    public void push(long openSize) {
+        pushes.increment();
+        peakOpenSize.accumulate(openSize);
+    }
+
+    // A célula já estava na lista aberta (decrease-key ou entrada repetida)
+    public void duplicatePush() {
+        duplicatePushes.increment();
+    }
+
+    public void pop() {
+        pops.increment();
+    }
+
+    // Outra thread venceu a disputa pela mesma célula
+    public void casFailure() {
+        casFailures.increment();
+    }
+
+    // tryLock encontrou o lock ocupado
+    public void lockFailure() {
+        lockFailures.increment();
+    }
+
+    // Tempo dentro de uma operação protegida por lock: espera pelo lock mais o trabalho feito com
+    // ele (não separa a disputa do custo da própria operação)
+    public void lockedSection(long nanos) {
+        lockedNanos.add(nanos);
+    }
+
+    // Com EMPTY os contadores ficam marcados como não medidos; alocação e GC valem para qualquer solver
+    public Snapshot snapshot(SolveResources resources) {
+        return new Snapshot(this != EMPTY, pushes.sum(), pops.sum(), duplicatePushes.sum(), peakOpenSize.get(),
+                casFailures.sum(), lockFailures.sum(), lockedNanos.sum(), resources.getAllocatedBytes(),
+                resources.getGcCount(), resources.getGcCollectionMillis());
+    }
+
+    // Valores de um solve (ou a média de vários, ver average)
+    public static final class Snapshot {
+        private final boolean instrumented; // false: o solver não conta pushes, pops, CAS nem locks
+        private final long pushes;
+        private final long pops;
+        private final long duplicatePushes;
+        private final long peakOpenSize;
+        private final long casFailures;
+        private final long lockFailures;
+        private final long lockedNanos;
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        Snapshot(boolean instrumented, long pushes, long pops, long duplicatePushes, long peakOpenSize, long casFailures,
+                 long lockFailures, long lockedNanos, long allocatedBytes, long gcCount, long gcMillis) {
+            this.instrumented = instrumented;
+            this.pushes = pushes;
+            this.pops = pops;
+            this.duplicatePushes = duplicatePushes;
+            this.peakOpenSize = peakOpenSize;
+            this.casFailures = casFailures;
+            this.lockFailures = lockFailures;
+            this.lockedNanos = lockedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        public static Snapshot average(List<Snapshot> snapshots) {
+            int n = Math.max(1, snapshots.size());
+            long[] sum = new long[10];
+            boolean instrumented = !snapshots.isEmpty();
+            for (Snapshot s : snapshots) {
+                instrumented &= s.instrumented;
+                sum[0] += s.pushes;
+                sum[1] += s.pops;
+                sum[2] += s.duplicatePushes;
+                sum[3] += s.peakOpenSize;
+                sum[4] += s.casFailures;
+                sum[5] += s.lockFailures;
+                sum[6] += s.lockedNanos;
+                sum[7] += s.allocatedBytes;
+                sum[8] += s.gcCount;
+                sum[9] += s.gcMillis;
+            }
+            return new Snapshot(instrumented, sum[0] / n, sum[1] / n, sum[2] / n, sum[3] / n, sum[4] / n,
+                    sum[5] / n, sum[6] / n, sum[7] / n, sum[8] / n, sum[9] / n);
+        }
+
+        public boolean isInstrumented() { return instrumented; }
+        public long getPushes() { return pushes; }
+        public long getPops() { return pops; }
+        public long getDuplicatePushes() { return duplicatePushes; }
+        public long getPeakOpenSize() { return peakOpenSize; }
+        public long getCasFailures() { return casFailures; }
+        public long getLockFailures() { return lockFailures; }
+        public long getLockedNanos() { return lockedNanos; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        public long getGcCount() { return gcCount; }
+        public long getGcCollectionMillis() { return gcMillis; }
+    }
+}
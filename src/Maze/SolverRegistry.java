@@ -0,0 +1,121 @@
+package Maze;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+// Solvers do benchmark por nome curto (usado na linha de comando), com o rótulo das colunas do
+// relatório, uma fábrica que recebe o número de threads e quantas threads o solver ocupa de
+// fato (para a eficiência paralela). A ordem é a das colunas do lote.
+public final class SolverRegistry {
+
+    private static final class Entry {
+        final IntFunction<String> label;
+        final IntFunction<MazeSolver> factory;
+        final IntUnaryOperator threadsUsed;
+
+        Entry(IntFunction<String> label, IntFunction<MazeSolver> factory, IntUnaryOperator threadsUsed) {
+            this.label = label;
+            this.factory = factory;
+            this.threadsUsed = threadsUsed;
+        }
+    }
+
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>();
+    // Membros do portfólio: rótulo nas contagens de vitórias -> nome no registro
+    private static final Map<String, String> PORTFOLIO = new LinkedHashMap<>();
+
+    static {
+        register("sequential", t -> "A* Sequencial", t -> new AStarSequentialSolver(), t -> 1);
+        register("primitive", t -> "A* Primitivo", t -> new AStarPrimitiveSolver(), t -> 1);
+        register("parallel", t -> "A* Paralelo (" + t + " threads)", AStarParallelSolver::new, t -> t);
+        register("indexed", t -> "A* Ótimo", t -> new AStarIndexedSolver(), t -> 1);
+        register("hda", t -> "HDA* (" + t + " threads)", HdaStarSolver::new, t -> t);
+        register("multiqueue", t -> "A* MultiQueue (" + t + " threads)", MultiQueueSolver::new, t -> t);
+        register("bidirectional", t -> "Bidirecional (2 threads)", t -> new BidirectionalSolver(), t -> 2);
+        register("parallel-bfs", t -> "BFS Paralela (" + t + " threads)", ParallelBfsSolver::new, t -> t);
+        register("bit-bfs", t -> "BFS em Bits", t -> new BitParallelBfsSolver(), t -> 1);
+        register("jps", t -> "A* com Saltos", t -> new JumpPointSolver(), t -> 1);
+        // A consulta do HPA* é sequencial; as threads só reconstroem clusters alterados
+        register("hierarchical", t -> "A* Hierárquico", t -> new HierarchicalSolver(), t -> 1);
+        register("portfolio", t -> "Portfólio", t -> new PortfolioSolver(portfolioMembers()), t -> portfolioThreads());
+        register("anytime", t -> "ARA*", t -> new AnytimeAStarSolver(), t -> 1);
+        register("lpa", t -> "LPA*", t -> new LpaStarSolver(), t -> 1);
+        // Os dois abaixo guardam trabalho por labirinto (grafo contraído, campo por fim): a primeira
+        // consulta de um labirinto paga a construção e as repetições seguintes medem só a consulta
+        register("contracted", t -> "Grafo Contraído", t -> new ContractedGraphSolver(), t -> 1);
+        register("distance-field", t -> "Campo de Distâncias (" + t + " threads)",
+                t -> new DistanceFieldSolver(new DistanceFieldCache(64L * 1024 * 1024, t)), t -> t);
+
+        PORTFOLIO.put("A* Ótimo", "indexed");
+        PORTFOLIO.put("A* com Saltos", "jps");
+        PORTFOLIO.put("BFS em Bits", "bit-bfs");
+        PORTFOLIO.put("Bidirecional", "bidirectional");
+    }
+
+    private SolverRegistry() {
+    }
+
+    private static void register(String name, IntFunction<String> label, IntFunction<MazeSolver> factory,
+                                 IntUnaryOperator threadsUsed) {
+        ENTRIES.put(name, new Entry(label, factory, threadsUsed));
+    }
+
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(ENTRIES.keySet());
+    }
+
+    public static boolean contains(String name) {
+        return ENTRIES.containsKey(name);
+    }
+
+    public static String label(String name, int threads) {
+        return entry(name).label.apply(threads);
+    }
+
+    public static MazeSolver create(String name, int threads) {
+        return entry(name).factory.apply(threads);
+    }
+
+    public static int threadsUsed(String name, int threads) {
+        return entry(name).threadsUsed.applyAsInt(threads);
+    }
+
+    // Rótulo -> instância, na ordem pedida; as instâncias devem durar o lote inteiro
+    public static Map<String, MazeSolver> createAll(Collection<String> names, int threads) {
+        Map<String, MazeSolver> solvers = new LinkedHashMap<>();
+        for (String name : names) {
+            solvers.put(label(name, threads), create(name, threads));
+        }
+        return solvers;
+    }
+
+    // Membros do portfólio: solvers sequenciais rápidos e de estratégias diferentes. Todos
+    // verificam o token durante a busca, então os perdedores param logo depois do vencedor
+    public static Map<String, Supplier<MazeSolver>> portfolioMembers() {
+        Map<String, Supplier<MazeSolver>> members = new LinkedHashMap<>();
+        for (Map.Entry<String, String> member : PORTFOLIO.entrySet()) {
+            String name = member.getValue();
+            members.put(member.getKey(), () -> create(name, 1));
+        }
+        return members;
+    }
+
+    // Soma das threads dos membros, que correm ao mesmo tempo (o Bidirecional sozinho ocupa duas)
+    private static int portfolioThreads() {
+        int threads = 0;
+        for (String name : PORTFOLIO.values()) {
+            threads += threadsUsed(name, 1);
+        }
+        return threads;
+    }
+
+    private static Entry entry(String name) {
+        Entry entry = ENTRIES.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Solver desconhecido: " + name + " (disponíveis: " + ENTRIES.keySet() + ")");
+        }
+        return entry;
+    }
+}